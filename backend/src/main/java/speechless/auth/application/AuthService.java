@@ -1,5 +1,6 @@
 package speechless.auth.application;
 
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -7,7 +8,10 @@ import speechless.auth.application.dto.OAuthMemberResponse;
 import speechless.auth.domain.RefreshToken;
 import speechless.auth.domain.repository.RefreshTokenRepository;
 import speechless.auth.dto.TokenDto;
+import speechless.auth.exception.RefreshTokenNotFoundException;
 import speechless.auth.support.JwtProvider;
+import speechless.auth.support.TokenHasher;
+import speechless.common.config.JwtCredentials;
 import speechless.member.domain.Member;
 import speechless.member.domain.repository.MemberRepository;
 
@@ -16,6 +20,7 @@ import speechless.member.domain.repository.MemberRepository;
 @RequiredArgsConstructor
 public class AuthService {
     private final JwtProvider jwtProvider;
+    private final JwtCredentials jwtCredentials;
     private final MemberRepository memberRepository;
     private final RefreshTokenRepository refreshTokenRepository;
 
@@ -30,21 +35,34 @@ public class AuthService {
         String refreshToken = jwtProvider.createRefreshToken();
 
         refreshTokenRepository.deleteByMemberId(memberId);
-        refreshTokenRepository.save(new RefreshToken(memberId, refreshToken));
+        refreshTokenRepository.save(new RefreshToken(memberId, TokenHasher.hash(refreshToken), nextExpiresAt()));
         return TokenDto.of(accessToken, refreshToken);
     }
 
-    public String renewAccessTokenBy(String refreshToken) {
+    // 갱신할 때마다 리프레시 토큰도 교체 (이전 토큰은 재사용 불가)
+    public TokenDto renewTokensBy(String refreshToken) {
         jwtProvider.validateParseJws(refreshToken);
 
-        RefreshToken saveRefreshToken = refreshTokenRepository.getByToken(refreshToken);
-        Long memberId = saveRefreshToken.getMemberId();
+        String tokenHash = TokenHasher.hash(refreshToken);
+        RefreshToken saveRefreshToken = refreshTokenRepository.getByTokenHash(tokenHash);
+        if (saveRefreshToken.isExpired(LocalDateTime.now())) {
+            throw new RefreshTokenNotFoundException();
+        }
 
-        return jwtProvider.createAccessToken(memberId);
+        String newRefreshToken = jwtProvider.createRefreshToken();
+        if (refreshTokenRepository.rotate(tokenHash, TokenHasher.hash(newRefreshToken), nextExpiresAt()) == 0) {
+            throw new RefreshTokenNotFoundException();
+        }
+
+        return TokenDto.of(jwtProvider.createAccessToken(saveRefreshToken.getMemberId()), newRefreshToken);
     }
 
     public void logout(Long memberId){
         refreshTokenRepository.deleteByMemberId(memberId);
 
     }
+
+    private LocalDateTime nextExpiresAt() {
+        return LocalDateTime.now().plusNanos(jwtCredentials.getRefreshTokenExpirationTime() * 1_000_000L);
+    }
 }
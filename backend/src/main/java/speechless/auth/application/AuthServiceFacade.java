@@ -17,8 +17,8 @@ public class AuthServiceFacade {
         return authService.login(oAuthMemberResponse);
     }
 
-    public String renewAccessTokenBy(String refreshToken){
-        return authService.renewAccessTokenBy(refreshToken);
+    public TokenDto renewTokensBy(String refreshToken){
+        return authService.renewTokensBy(refreshToken);
     }
 
     public void logout(Long memberId){
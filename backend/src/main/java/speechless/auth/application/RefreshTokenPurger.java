@@ -0,0 +1,57 @@
+package speechless.auth.application;
+
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import speechless.auth.domain.repository.RefreshTokenRepository;
+
+// 만료된 리프레시 토큰을 주기적으로 나눠서 삭제 (긴 잠금 방지)
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${auth.refresh-token.purge-batch-size:1000}") int batchSize) {
+
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}")
+    public void scheduledPurge() {
+        try {
+            purge(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.warn("만료 토큰 삭제 실패", e);
+        }
+    }
+
+    // 배치마다 트랜잭션을 커밋하고 batchSize 보다 적게 지워지면 종료
+    public int purge(LocalDateTime now) {
+        int total = 0;
+        int deleted;
+        do {
+            Integer count = transactionTemplate.execute(
+                status -> refreshTokenRepository.deleteExpired(now, batchSize));
+            deleted = count == null ? 0 : count;
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("만료 리프레시 토큰 {}건 삭제", total);
+        }
+        return total;
+    }
+}
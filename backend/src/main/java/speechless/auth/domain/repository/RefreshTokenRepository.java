@@ -1,16 +1,36 @@
 package speechless.auth.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import speechless.auth.domain.RefreshToken;
 import speechless.auth.exception.RefreshTokenNotFoundException;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    default RefreshToken getByToken(String token){
-        return findByToken(token).orElseThrow(RefreshTokenNotFoundException::new);
+    default RefreshToken getByTokenHash(String tokenHash){
+        return findByTokenHash(tokenHash).orElseThrow(RefreshTokenNotFoundException::new);
     }
 
-    void deleteByMemberId(Long memberId);
+    // 엔티티를 읽지 않고 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // 이전 해시와 일치할 때만 교체 (동시에 같은 토큰으로 갱신하면 한 쪽만 성공)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.tokenHash = :newHash, r.expiresAt = :expiresAt "
+        + "WHERE r.tokenHash = :oldHash")
+    int rotate(@Param("oldHash") String oldHash, @Param("newHash") String newHash,
+        @Param("expiresAt") LocalDateTime expiresAt);
+
+    // expires_at 인덱스로 만료된 토큰을 batchSize 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :batchSize",
+        nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
@@ -1,10 +1,11 @@
 package speechless.auth.dto;
 
 public record AccessTokenResponse (
-        String accessToken
+        String accessToken,
+        String refreshToken
 ){
 
-    public static AccessTokenResponse from(String accessToken){
-        return new AccessTokenResponse(accessToken);
+    public static AccessTokenResponse from(TokenDto tokenDto){
+        return new AccessTokenResponse(tokenDto.accessToken(), tokenDto.refreshToken());
     }
 }
@@ -44,8 +44,8 @@ public class AuthController {
     @GetMapping("/refresh")
     public ResponseEntity<AccessTokenResponse> renewTokens(HttpServletRequest request) {
         String refreshToken = SpeechlessTokenExtractor.extract(request);
-        String accessToken = authServiceFacade.renewAccessTokenBy(refreshToken);
-        return ResponseEntity.ok(AccessTokenResponse.from(accessToken));
+        TokenDto tokenDto = authServiceFacade.renewTokensBy(refreshToken);
+        return ResponseEntity.ok(AccessTokenResponse.from(tokenDto));
     }
 
     @Operation(summary = "로그아웃", description = "로그아웃 처리")
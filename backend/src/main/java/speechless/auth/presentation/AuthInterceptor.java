@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import speechless.auth.dto.AuthCredentials;
 import speechless.auth.support.BearerTokenExtractor;
 import speechless.auth.support.JwtProvider;
 
@@ -14,6 +15,9 @@ import java.util.Objects;
 @Component
 @RequiredArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
+    // 검증한 인증 정보를 담아 JwtArgumentResolver 에서 재사용
+    public static final String AUTH_CREDENTIALS = AuthInterceptor.class.getName() + ".AUTH_CREDENTIALS";
+
     private final JwtProvider jwtProvider;
 
     @Override
@@ -22,7 +26,8 @@ public class AuthInterceptor implements HandlerInterceptor {
             return true;
         }
         String accessToken = BearerTokenExtractor.extract(request);
-        jwtProvider.validateParseJws(accessToken);
+        String id = jwtProvider.getPayload(accessToken);
+        request.setAttribute(AUTH_CREDENTIALS, new AuthCredentials(Long.valueOf(id)));
         return true;
     }
 
@@ -28,10 +28,18 @@ public class JwtArgumentResolver implements HandlerMethodArgumentResolver {
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory)  {
-        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
-        String accessToken = BearerTokenExtractor.extract(Objects.requireNonNull(request));
+        HttpServletRequest request = Objects.requireNonNull(
+                webRequest.getNativeRequest(HttpServletRequest.class));
 
-        String id = jwtProvider.getPayload(accessToken);
-        return new AuthCredentials(Long.valueOf(id));
+        // 같은 요청에서 이미 검증했다면 다시 파싱하지 않음
+        Object verified = request.getAttribute(AuthInterceptor.AUTH_CREDENTIALS);
+        if (verified instanceof AuthCredentials authCredentials) {
+            return authCredentials;
+        }
+
+        String accessToken = BearerTokenExtractor.extract(request);
+        AuthCredentials authCredentials = new AuthCredentials(Long.valueOf(jwtProvider.getPayload(accessToken)));
+        request.setAttribute(AuthInterceptor.AUTH_CREDENTIALS, authCredentials);
+        return authCredentials;
     }
 }
@@ -18,11 +18,16 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 @Component
 public class JwtProvider {
     private final SecretKey key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenExpirationTime;
     private final long refreshTokenExpirationTime;
 
-    public JwtProvider(JwtCredentials jwtCredentials) {
+    public JwtProvider(JwtCredentials jwtCredentials, VerifiedTokenCache verifiedTokenCache) {
         this.key = hmacShaKeyFor(jwtCredentials.getSecretKey().getBytes(UTF_8));
+        // 파서는 thread-safe 하므로 한 번만 생성해 재사용
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = verifiedTokenCache;
         this.accessTokenExpirationTime = jwtCredentials.getAccessTokenExpirationTime();
         this.refreshTokenExpirationTime = jwtCredentials.getRefreshTokenExpirationTime();
     }
@@ -42,12 +47,16 @@ public class JwtProvider {
     }
 
     public String getPayload(String token) {
-        return validateParseJws(token).getBody().getSubject();
+        return verifiedTokenCache.getSubject(token).orElseGet(() -> {
+            Claims claims = validateParseJws(token).getBody();
+            verifiedTokenCache.put(token, claims.getSubject(), claims.getExpiration());
+            return claims.getSubject();
+        });
     }
 
     public Jws<Claims> validateParseJws(String token) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            return parser.parseClaimsJws(token);
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException();
         } catch (JwtException e) {
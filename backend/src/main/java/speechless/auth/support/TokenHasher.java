@@ -0,0 +1,22 @@
+package speechless.auth.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 저장/조회용 토큰 해시 (SHA-256, 64자 hex)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenHasher {
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
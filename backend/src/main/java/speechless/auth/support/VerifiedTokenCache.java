@@ -0,0 +1,67 @@
+package speechless.auth.support;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 최근 검증한 토큰의 subject 를 만료 시각까지만 보관 (서명 검증 반복 방지)
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+        @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+        @Value("${jwt.verified-cache.max-ttl:5m}") Duration maxTtl) {
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+            .build();
+    }
+
+    public Optional<String> getSubject(String token) {
+        return Optional.ofNullable(cache.getIfPresent(token))
+            .filter(verified -> verified.expiration().getTime() > System.currentTimeMillis())
+            .map(VerifiedToken::subject);
+    }
+
+    public void put(String token, String subject, Date expiration) {
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(token, new VerifiedToken(subject, expiration));
+    }
+
+    private record VerifiedToken(String subject, Date expiration) {
+
+    }
+
+    // 토큰 만료 시각과 최대 보관 시간 중 먼저 도래하는 시점에 제거
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiration = Duration.ofMillis(
+                value.expiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
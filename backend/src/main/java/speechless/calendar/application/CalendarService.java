@@ -0,0 +1,27 @@
+package speechless.calendar.application;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import speechless.auth.dto.AuthCredentials;
+import speechless.calendar.domain.repository.CalendarRepository;
+import speechless.calendar.dto.response.CalendarEventResponse;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CalendarService {
+
+    private final CalendarRepository calendarRepository;
+
+    public List<CalendarEventResponse> getMonthlyEvents(AuthCredentials authCredentials,
+        Integer year, Integer month) {
+
+        LocalDate firstDate = LocalDate.of(year, month, 1);
+
+        return calendarRepository.findEventsByMember(authCredentials.id(),
+            firstDate.atStartOfDay(), firstDate.plusMonths(1).atStartOfDay());
+    }
+}
@@ -0,0 +1,5 @@
+package speechless.calendar.domain;
+
+public enum CalendarEventType {
+    INTERVIEW, SPEECH
+}
@@ -0,0 +1,63 @@
+package speechless.calendar.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import speechless.calendar.domain.CalendarEventType;
+import speechless.calendar.dto.response.CalendarEventResponse;
+
+// 회원 캘린더 : 완료한 면접과 참여한 스피치 세션을 한 번에 조회
+@Repository
+public class CalendarRepository {
+
+    // interview_info(member_id, is_completion, start_time), community(session_start) 인덱스 사용
+    private static final String MONTHLY_EVENTS = "SELECT 'INTERVIEW' AS type, i.id, i.topic AS title, "
+        + "i.start_time AS start_time "
+        + "FROM interview_info i "
+        + "WHERE i.member_id = :memberId "
+        + "AND i.is_completion = true "
+        + "AND i.start_time >= :start AND i.start_time < :end "
+        + "UNION ALL "
+        + "SELECT 'SPEECH' AS type, c.id, c.title, c.session_start AS start_time "
+        + "FROM participant p "
+        + "JOIN community c ON c.id = p.community_id "
+        + "WHERE p.member_id = :memberId "
+        + "AND c.session_start >= :start AND c.session_start < :end "
+        + "ORDER BY start_time";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public List<CalendarEventResponse> findEventsByMember(Long memberId, LocalDateTime start,
+        LocalDateTime end) {
+
+        List<?> rows = em.createNativeQuery(MONTHLY_EVENTS)
+            .setParameter("memberId", memberId)
+            .setParameter("start", start)
+            .setParameter("end", end)
+            .getResultList();
+
+        return rows.stream()
+            .map(row -> toResponse((Object[]) row))
+            .toList();
+    }
+
+    private CalendarEventResponse toResponse(Object[] row) {
+        return CalendarEventResponse.builder()
+            .type(CalendarEventType.valueOf((String) row[0]))
+            .id(((Number) row[1]).longValue())
+            .title((String) row[2])
+            .startTime(toLocalDateTime(row[3]))
+            .build();
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
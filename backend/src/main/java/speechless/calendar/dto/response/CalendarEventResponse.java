@@ -0,0 +1,23 @@
+package speechless.calendar.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import speechless.calendar.domain.CalendarEventType;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CalendarEventResponse {
+
+    private CalendarEventType type;
+
+    private Long id;
+
+    private String title;
+
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,32 @@
+package speechless.calendar.presentation;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import speechless.auth.dto.AuthCredentials;
+import speechless.auth.presentation.Auth;
+import speechless.calendar.application.CalendarService;
+import speechless.calendar.dto.response.CalendarEventResponse;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/calendar")
+public class CalendarController {
+
+    private final CalendarService calendarService;
+
+    @GetMapping("/monthly")
+    public ResponseEntity<List<CalendarEventResponse>> getMonthlyEvents(
+        @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
+        @RequestParam("year") Integer year, @RequestParam("month") Integer month
+    ) throws Exception {
+        return new ResponseEntity<>(
+            calendarService.getMonthlyEvents(authCredentials, year, month), HttpStatus.OK);
+    }
+}
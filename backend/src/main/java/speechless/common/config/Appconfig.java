@@ -7,13 +7,21 @@ import org.springframework.context.annotation.Configuration;
 import speechless.auth.infra.google.config.GoogleCredentials;
 import speechless.auth.infra.kakao.config.KaKaoCredentials;
 import speechless.auth.infra.naver.config.NaverCredentials;
+import speechless.interview.config.GptSchedulerProperties;
+import speechless.session.recording.config.RecordingPipelineProperties;
+import speechless.session.storage.config.StorageProperties;
 
 @Configuration
 @EnableConfigurationProperties({
         KaKaoCredentials.class,
         JwtCredentials.class,
         NaverCredentials.class,
-        GoogleCredentials.class
+        GoogleCredentials.class,
+        OutboundClientProperties.class,
+        RecordingPipelineProperties.class,
+        StorageProperties.class,
+        GptSchedulerProperties.class,
+        BulkheadProperties.class
 }) public class Appconfig {
 
 }
\ No newline at end of file
@@ -1,17 +1,31 @@
 package speechless.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import speechless.common.error.AsyncExceptionHandler;
+import speechless.common.metrics.ExecutorMetrics;
 
 @EnableAsync
 @Configuration
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    public static final String GPT_EXECUTOR = "gptTaskExecutor";
+
+    public static final String SIGNAL_EXECUTOR = "signalTaskExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    private final BulkheadProperties bulkheadProperties;
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -20,12 +34,37 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("SPEECHLESS-ASYNC-");
         executor.initialize();
+        ExecutorMetrics.monitor(executor, "async", meterRegistry);
         return executor;
     }
 
+    // 가득 차면 @Async 호출에서 TaskRejectedException (GlobalExceptionHandler 에서 429 + Retry-After)
+    // 직접 초기화한 풀을 등록 (ThreadPoolTaskExecutor 를 빈으로 두면 다시 초기화되어 메트릭이 끊김)
+    @Bean(name = GPT_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor gptTaskExecutor() {
+        return createBulkhead("gpt-task", bulkheadProperties.getGpt());
+    }
+
+    @Bean(name = SIGNAL_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor signalTaskExecutor() {
+        return createBulkhead("signal", bulkheadProperties.getSignal());
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new AsyncExceptionHandler();
     }
 
+    private ThreadPoolExecutor createBulkhead(String name, BulkheadProperties.Pool pool) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix("SPEECHLESS-" + name.toUpperCase() + "-");
+        executor.initialize();
+        ExecutorMetrics.monitor(executor, name, meterRegistry);
+        return executor.getThreadPoolExecutor();
+    }
+
 }
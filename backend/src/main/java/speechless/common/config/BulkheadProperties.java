@@ -0,0 +1,37 @@
+package speechless.common.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 작업 종류별로 분리한 비동기 스레드 풀 (한 작업이 밀려도 다른 작업은 영향 없음)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    // 대기열이 가득 찼을 때 429 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    // 면접 질문/피드백 생성 (GPT 응답 대기)
+    private Pool gpt = new Pool(5, 20, 50);
+
+    // OpenVidu 시그널 전송
+    private Pool signal = new Pool(4, 8, 500);
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Pool {
+
+        private int coreSize;
+
+        private int maxSize;
+
+        private int queueCapacity;
+    }
+}
@@ -0,0 +1,30 @@
+package speechless.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 캐시 이름을 미리 등록해야 시작 시 캐시 메트릭(cache.gets 등)이 바인딩됨
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POPULAR_COMMUNITIES = "popularCommunities";
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(POPULAR_COMMUNITIES);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .recordStats()
+            .maximumSize(100)
+            // 갱신 스케줄이 멈춰도 오래된 목록이 남지 않도록
+            .expireAfterWrite(Duration.ofMinutes(5)));
+        return cacheManager;
+    }
+}
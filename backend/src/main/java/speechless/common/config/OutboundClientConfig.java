@@ -0,0 +1,169 @@
+package speechless.common.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import speechless.common.config.OutboundClientProperties.Upstream;
+import speechless.common.metrics.UpstreamMetrics;
+
+// 외부 API 별 커넥션 풀을 공유하는 RestClient
+@Configuration
+@RequiredArgsConstructor
+public class OutboundClientConfig {
+
+    private static final String GPT_URL = "https://api.openai.com/v1";
+
+    private static final String PRONOUNCE_URL = "http://aiopen.etri.re.kr:8000";
+
+    private final OutboundClientProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final UpstreamMetrics upstreamMetrics;
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory gptRequestFactory() {
+        return createRequestFactory("gpt", properties.getGpt());
+    }
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory sttRequestFactory() {
+        return createRequestFactory("stt", properties.getStt());
+    }
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory pronounceRequestFactory() {
+        return createRequestFactory("pronounce", properties.getPronounce());
+    }
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory openviduRequestFactory() {
+        return createRequestFactory("openvidu", properties.getOpenvidu());
+    }
+
+    @Bean
+    public RestClient gptRestClient(RestClient.Builder builder,
+        @Qualifier("gptRequestFactory") HttpComponentsClientHttpRequestFactory requestFactory,
+        @Value("${api-keys.gpt}") String apiKey) {
+
+        return builder
+            .requestFactory(requestFactory)
+            .requestInterceptor(upstreamMetrics.interceptor("gpt"))
+            .baseUrl(GPT_URL)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+            .build();
+    }
+
+    @Bean
+    public RestClient sttRestClient(RestClient.Builder builder,
+        @Qualifier("sttRequestFactory") HttpComponentsClientHttpRequestFactory requestFactory,
+        @Value("${api-keys.stt.invoke-url}") String invokeUrl,
+        @Value("${api-keys.stt.secret-key}") String secretKey) {
+
+        return builder
+            .requestFactory(requestFactory)
+            .requestInterceptor(upstreamMetrics.interceptor("stt"))
+            .baseUrl(invokeUrl)
+            .defaultHeader("X-CLOVASPEECH-API-KEY", secretKey)
+            .build();
+    }
+
+    @Bean
+    public RestClient pronounceRestClient(RestClient.Builder builder,
+        @Qualifier("pronounceRequestFactory") HttpComponentsClientHttpRequestFactory requestFactory,
+        @Value("${api-keys.pronounce}") String apiKey) {
+
+        return builder
+            .requestFactory(requestFactory)
+            .requestInterceptor(upstreamMetrics.interceptor("pronounce"))
+            .baseUrl(PRONOUNCE_URL)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, apiKey)
+            .build();
+    }
+
+    @Bean
+    public RestClient openviduRestClient(RestClient.Builder builder,
+        @Qualifier("openviduRequestFactory") HttpComponentsClientHttpRequestFactory requestFactory,
+        @Value("${OPENVIDU_URL}") String openviduUrl,
+        @Value("${OPENVIDU_SECRET}") String openviduSecret) {
+
+        String credentials = Base64.getEncoder().encodeToString(
+            ("OPENVIDUAPP:" + openviduSecret).getBytes(StandardCharsets.UTF_8));
+
+        return builder
+            .requestFactory(requestFactory)
+            .requestInterceptor(upstreamMetrics.interceptor("openvidu"))
+            .baseUrl(openviduUrl)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials)
+            .build();
+    }
+
+    private HttpComponentsClientHttpRequestFactory createRequestFactory(
+        String name, Upstream upstream) {
+
+        PoolingHttpClientConnectionManager connectionManager =
+            PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(upstream.getMaxConnections())
+                .setMaxConnPerRoute(upstream.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.of(upstream.getConnectTimeout()))
+                    .setSocketTimeout(Timeout.of(upstream.getReadTimeout()))
+                    .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(upstream.getIdleTimeout()))
+            .build();
+
+        registerPoolMetrics(name, connectionManager);
+
+        HttpComponentsClientHttpRequestFactory requestFactory =
+            new HttpComponentsClientHttpRequestFactory(httpClient);
+
+        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+        requestFactory.setConnectionRequestTimeout(
+            (int) upstream.getConnectTimeout().toMillis());
+        return requestFactory;
+    }
+
+    private void registerPoolMetrics(String name,
+        PoolingHttpClientConnectionManager connectionManager) {
+
+        registerPoolGauge("outbound.pool.leased", name, connectionManager, PoolStats::getLeased);
+        registerPoolGauge("outbound.pool.available", name, connectionManager,
+            PoolStats::getAvailable);
+        registerPoolGauge("outbound.pool.pending", name, connectionManager,
+            PoolStats::getPending);
+        registerPoolGauge("outbound.pool.max", name, connectionManager, PoolStats::getMax);
+    }
+
+    private void registerPoolGauge(String metric, String name,
+        PoolingHttpClientConnectionManager connectionManager,
+        ToDoubleFunction<PoolStats> value) {
+
+        Gauge.builder(metric, connectionManager,
+                manager -> value.applyAsDouble(manager.getTotalStats()))
+            .tag("upstream", name)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package speechless.common.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound")
+public class OutboundClientProperties {
+
+    private Upstream gpt = new Upstream(
+        Duration.ofSeconds(3), Duration.ofSeconds(60), 20, Duration.ofSeconds(30));
+
+    private Upstream stt = new Upstream(
+        Duration.ofSeconds(3), Duration.ofSeconds(60), 10, Duration.ofSeconds(30));
+
+    private Upstream pronounce = new Upstream(
+        Duration.ofSeconds(3), Duration.ofSeconds(30), 10, Duration.ofSeconds(30));
+
+    private Upstream openvidu = new Upstream(
+        Duration.ofSeconds(2), Duration.ofSeconds(5), 30, Duration.ofSeconds(60));
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Upstream {
+
+        private Duration connectTimeout;
+
+        private Duration readTimeout;
+
+        private int maxConnections;
+
+        // 유휴 커넥션 유지 시간 (keep-alive)
+        private Duration idleTimeout;
+    }
+}
@@ -5,7 +5,10 @@ import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.ValidationException;
 import java.io.IOException;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -14,11 +17,15 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.HandlerMethod;
+import speechless.common.config.BulkheadProperties;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final BulkheadProperties bulkheadProperties;
+
     // 서비스 정의 에러
     @ExceptionHandler(SpeechlessException.class)
     public ResponseEntity<ErrorResponse> resSpeechlessException(
@@ -33,9 +40,32 @@ public class GlobalExceptionHandler {
             exception.getErrorCode().status()
         );
 
+        // 429 는 같은 요청을 다시 보내면 처리되는 경우만 사용
+        // (녹음 처리 대기열 초과는 녹음을 지우지 않고, 녹음 종료 API 는 이미 멈춘 녹음도 다시 제출)
+        if (exception.getErrorCode().status() == HttpStatus.TOO_MANY_REQUESTS) {
+            return new ResponseEntity<>(response, retryAfterHeader(), HttpStatus.TOO_MANY_REQUESTS);
+        }
         return new ResponseEntity<>(response, exception.getErrorCode().status());
     }
 
+    // 비동기 스레드 풀 포화 : 클라이언트가 Retry-After 만큼 기다린 뒤 재시도하도록 429 응답
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> resTaskRejectedException(
+        Throwable e,
+        HandlerMethod handlerMethod) throws IOException {
+
+        ErrorResponse response = new ErrorResponse(
+            e.getClass().getSimpleName(),
+            "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요",
+            e.getStackTrace()[0].toString(),
+            HttpStatus.TOO_MANY_REQUESTS
+        );
+
+        log.warn("비동기 작업 거절 - " + e.getMessage());
+
+        return new ResponseEntity<>(response, retryAfterHeader(), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     // Validation (@Valid) 에러
     @ExceptionHandler(BindException.class)
     public ResponseEntity<ErrorResponse> resBindException(
@@ -84,6 +114,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    private HttpHeaders retryAfterHeader() {
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER,
+            String.valueOf(Math.max(1, bulkheadProperties.getRetryAfter().toSeconds())));
+        return headers;
+    }
+
     // Unhandled 에러
     @ExceptionHandler(Throwable.class)
     public ResponseEntity<ErrorResponse> resUnhandledException(
@@ -0,0 +1,33 @@
+package speechless.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 스레드 풀 active/queued/completed 와 거절 횟수 (executor.* , name 태그)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ExecutorMetrics {
+
+    public static void monitor(ThreadPoolTaskExecutor executor, String name,
+        MeterRegistry meterRegistry) {
+
+        ThreadPoolExecutor threadPool = executor.getThreadPoolExecutor();
+        new ExecutorServiceMetrics(threadPool, name, Tags.empty()).bindTo(meterRegistry);
+
+        Counter rejected = Counter.builder("executor.rejected")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        RejectedExecutionHandler delegate = threadPool.getRejectedExecutionHandler();
+        threadPool.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, pool);
+        });
+    }
+}
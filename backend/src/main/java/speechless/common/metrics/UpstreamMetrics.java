@@ -0,0 +1,74 @@
+package speechless.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+// 외부 의존성(GPT, STT, 발음 평가, OpenVidu, 스토리지) 호출 지연 시간/결과 기록
+@Component
+@RequiredArgsConstructor
+public class UpstreamMetrics {
+
+    public static final String REQUESTS = "speechless.upstream.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String upstream, String endpoint, String outcome, long elapsedNanos) {
+        Timer.builder(REQUESTS)
+            .tag("upstream", upstream)
+            .tag("endpoint", endpoint)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public <T> T record(String upstream, String endpoint, UpstreamCall<T> call) {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return call.execute();
+        } catch (RuntimeException e) {
+            outcome = "ERROR";
+            throw e;
+        } finally {
+            record(upstream, endpoint, outcome, System.nanoTime() - start);
+        }
+    }
+
+    // RestClient 용 : 응답 헤더 수신까지의 시간을 경로와 상태 코드별로 기록
+    public ClientHttpRequestInterceptor interceptor(String upstream) {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            String outcome = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                outcome = outcome(response.getStatusCode());
+                return response;
+            } finally {
+                record(upstream, request.getURI().getPath(), outcome, System.nanoTime() - start);
+            }
+        };
+    }
+
+    private String outcome(HttpStatusCode status) {
+        if (status.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        if (status.is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    @FunctionalInterface
+    public interface UpstreamCall<T> {
+
+        T execute();
+    }
+}
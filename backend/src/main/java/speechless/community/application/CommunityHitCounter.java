@@ -0,0 +1,145 @@
+package speechless.community.application;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import speechless.community.domain.repository.CommunityRepository;
+
+// 조회수를 메모리에 모았다가 주기적으로 한 번에 반영 (조회마다 row lock 방지)
+@Slf4j
+@Component
+public class CommunityHitCounter {
+
+    private final Map<Long, HitEntry> entries = new ConcurrentHashMap<>();
+
+    private final CommunityRepository communityRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CommunityHitCounter(CommunityRepository communityRepository,
+        PlatformTransactionManager transactionManager) {
+
+        this.communityRepository = communityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 조회수 1 증가 후 반영 대기분을 합친 조회수 반환
+    public Long increase(Long communityId, Long flushedHit) {
+
+        // 반영 후 정리와 겹치지 않도록 증가까지 원자적으로 처리
+        HitEntry entry = entries.compute(communityId, (id, current) -> {
+            HitEntry next = current == null ? new HitEntry() : current;
+            next.increment(flushedHit);
+            return next;
+        });
+        return entry.merge(flushedHit);
+    }
+
+    // 반영 대기분을 합친 조회수 반환
+    public Long getHit(Long communityId, Long flushedHit) {
+
+        HitEntry entry = entries.get(communityId);
+        if (entry == null) {
+            return flushedHit;
+        }
+        return entry.merge(flushedHit);
+    }
+
+    @Scheduled(fixedDelayString = "${community.hit.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+
+        Map<Long, Long> deltas = new HashMap<>();
+        entries.forEach((communityId, entry) -> {
+            long delta = entry.beginFlush();
+            if (delta > 0) {
+                deltas.put(communityId, delta);
+            }
+        });
+
+        // 한 주기 동안 조회가 없던 항목은 제거 (방금 반영한 항목은 늦게 읽힌 DB 값을 거르기 위해 한 주기 유지)
+        entries.keySet().stream()
+            .filter(communityId -> !deltas.containsKey(communityId))
+            .forEach(communityId -> entries.computeIfPresent(communityId,
+                (id, entry) -> entry.isIdle() ? null : entry));
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach(
+                communityRepository::increaseHit));
+        } catch (RuntimeException e) {
+            // 실패 시 다음 주기에 다시 반영
+            log.error("조회수 반영 실패", e);
+            deltas.keySet().forEach(communityId -> entries.get(communityId).abortFlush());
+            return;
+        }
+
+        // DB 반영이 끝난 만큼 대기분에서 기준 조회수로 옮김
+        deltas.keySet().forEach(communityId -> entries.get(communityId).completeFlush());
+    }
+
+    // 기준 조회수(DB 에 반영된 값) + 반영 대기분
+    // 반영 중에는 호출한 쪽이 읽은 DB 값이 반영 전/후 어느 쪽인지 알 수 없으므로 기준 조회수만 사용
+    private static class HitEntry {
+
+        private long base;
+
+        private long pending;
+
+        // 반영 중인 대기분 (반영 중이 아니면 0)
+        private long flushing;
+
+        private synchronized void increment(Long flushedHit) {
+            observe(flushedHit);
+            pending++;
+        }
+
+        private synchronized Long merge(Long flushedHit) {
+            observe(flushedHit);
+            return base + pending;
+        }
+
+        private synchronized long beginFlush() {
+            flushing = pending;
+            return flushing;
+        }
+
+        private synchronized void completeFlush() {
+            base += flushing;
+            pending -= flushing;
+            flushing = 0;
+        }
+
+        private synchronized void abortFlush() {
+            flushing = 0;
+        }
+
+        private synchronized boolean isIdle() {
+            return pending == 0 && flushing == 0;
+        }
+
+        // 반영 중이 아닐 때만 DB 값을 기준으로 받아들이고, 이전에 읽은 값으로는 내려가지 않음
+        private void observe(Long flushedHit) {
+            if (flushing == 0 && flushedHit != null) {
+                base = Math.max(base, flushedHit);
+            }
+        }
+    }
+}
@@ -2,12 +2,18 @@ package speechless.community.application;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import speechless.common.config.CacheConfig;
+import speechless.community.application.event.CommunityChangedEvent;
 import speechless.community.domain.Community;
 import speechless.community.domain.repository.CommunityRepository;
-import speechless.community.domain.repository.ParticipantRepository;
 import speechless.community.dto.request.CreateCommunityRequest;
+import speechless.community.dto.response.CommunitySearchResult;
 import speechless.community.dto.response.GetCommunitiesResponse;
+import speechless.community.dto.response.GetCommunityResponse;
 import speechless.community.exception.CommunityDeleteException;
 import speechless.community.exception.CommunityException;
 import speechless.community.exception.CommunityUpdateException;
@@ -22,7 +28,8 @@ import java.util.List;
 public class CommunityService {
     private final MemberRepository memberRepository;
     private final CommunityRepository commnunityRepository;
-    private final ParticipantRepository participantRepository;
+    private final CommunityHitCounter hitCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Community createCommunity(Long memberId, CreateCommunityRequest request) {
         Member member = memberRepository.getById(memberId);
@@ -37,27 +44,42 @@ public class CommunityService {
         }
         community.updateCommunity(request);
         commnunityRepository.save(community);
+        eventPublisher.publishEvent(new CommunityChangedEvent(communityId));
     }
 
     public Community getCommunityById(Long communityId) {
         Community community = commnunityRepository.findById(communityId)
                 .orElseThrow(() -> new CommunityException.NotFound(communityId));
-        community.increaseHit();
-        commnunityRepository.save(community);
         return community;
     }
 
+    // 조회수는 메모리에 누적 후 주기적으로 반영
+    public Long increaseHit(Community community) {
+        return hitCounter.increase(community.getId(), community.getHit());
+    }
+
     public GetCommunitiesResponse getCommunityList(String title, String writerName, String content,
                                                    String category, Boolean recruiting, Integer maxParticipants,
                                                    Long cursor, int limit){
-        List<Community> communities = commnunityRepository.searchCommunities(title, writerName, content, category, recruiting, maxParticipants, cursor, limit + 1);
+        CommunitySearchResult result = commnunityRepository.searchCommunities(title, writerName, content, category, recruiting, maxParticipants, cursor, limit + 1);
 
-        return prepareResponseWithPagination(communities, limit);
+        return prepareResponseWithPagination(result.communities(), limit, result.capped());
     }
 
+    // 모든 사용자에게 같은 목록이므로 캐시에서 응답 (PopularCommunityFeedCache 가 주기적으로 갱신)
+    @Cacheable(cacheNames = CacheConfig.POPULAR_COMMUNITIES, key = "#limit")
     public GetCommunitiesResponse getPopularCommunities(Long cursor, int limit) {
-        List<Community> communities = commnunityRepository.findPopularCommunities();
-        return prepareResponseWithPagination(communities, limit);
+        return loadPopularCommunities(limit);
+    }
+
+    @CachePut(cacheNames = CacheConfig.POPULAR_COMMUNITIES, key = "#limit")
+    public GetCommunitiesResponse refreshPopularCommunities(int limit) {
+        return loadPopularCommunities(limit);
+    }
+
+    private GetCommunitiesResponse loadPopularCommunities(int limit) {
+        List<GetCommunityResponse> communities = commnunityRepository.findPopularCommunities();
+        return prepareResponseWithPagination(communities, limit, false);
     }
 
     public void deleteCommunity(Long memberId, Long communityId) {
@@ -66,17 +88,19 @@ public class CommunityService {
             throw new CommunityDeleteException();
         }
         commnunityRepository.deleteById(communityId);
+        eventPublisher.publishEvent(new CommunityChangedEvent(communityId));
     }
 
 
-    private GetCommunitiesResponse prepareResponseWithPagination(List<Community> communities, int limit) {
+    private GetCommunitiesResponse prepareResponseWithPagination(List<GetCommunityResponse> communities, int limit, boolean capped) {
         Long nextCursor = null;
 
         if (communities.size() > limit) {
             communities.remove(communities.size() - 1);
-            nextCursor = communities.get(communities.size() - 1).getId();
+            nextCursor = communities.get(communities.size() - 1).id();
         }
 
-        return GetCommunitiesResponse.from(communities, nextCursor, participantRepository);
+        // 다음 페이지가 없는데 검색 후보가 잘린 경우 결과의 끝이 아님을 알림
+        return GetCommunitiesResponse.from(communities, nextCursor, capped && nextCursor == null, hitCounter);
     }
 }
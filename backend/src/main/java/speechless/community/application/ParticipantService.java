@@ -1,9 +1,13 @@
 package speechless.community.application;
 
 import jakarta.transaction.Transactional;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -36,20 +40,12 @@ public class ParticipantService {
         throws SpeechlessException {
         Member loginMember = getMember(authCredentials);
         Community participantCommunity = getCommunity(communityId);
-        if (participantRepository.findAllByCommunity(participantCommunity).orElse(new ArrayList<>()).size() >= participantCommunity.getMaxParticipants()) {
-            throw new ExceedCapacityException();
-        }
         if (participantRepository.existsByCommunityIdAndMemberId(communityId,
             loginMember.getId())) {
             throw new ParticipantExistException();
         }
-        Participant participant = Participant.builder()
-            .member(loginMember)
-            .community(participantCommunity)
-            .build();
-        participantRepository.save(participant);
-
-        return participant;
+        admit(communityId);
+        return saveParticipant(loginMember, participantCommunity);
     }
 
     public void createParticipantWithCommunity(Long memberId, Long communityId) {
@@ -59,11 +55,8 @@ public class ParticipantService {
                 member.getId())) {
             throw new ParticipantExistException();
         }
-        Participant participant = Participant.builder()
-                .member(member)
-                .community(participantCommunity)
-                .build();
-        participantRepository.save(participant);
+        admit(communityId);
+        saveParticipant(member, participantCommunity);
     }
 
     public void deleteParticipant(AuthCredentials authCredentials, Long communityId)
@@ -76,6 +69,28 @@ public class ParticipantService {
         checkAuth(authCredentials, participant);
 
         participantRepository.delete(participant);
+        communityRepository.decreaseParticipants(communityId);
+    }
+
+    // 정원 확인과 증가를 한 번의 조건부 UPDATE 로 처리 (동시 참여 시 초과 방지)
+    private void admit(Long communityId) throws SpeechlessException {
+        if (communityRepository.increaseParticipants(communityId) == 0) {
+            throw new ExceedCapacityException();
+        }
+    }
+
+    // 동시에 같은 회원이 참여하면 unique (community_id, member_id) 위반 → 트랜잭션 롤백으로 인원도 원복
+    private Participant saveParticipant(Member member, Community community)
+        throws SpeechlessException {
+        Participant participant = Participant.builder()
+            .member(member)
+            .community(community)
+            .build();
+        try {
+            return participantRepository.saveAndFlush(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new ParticipantExistException();
+        }
     }
 
     public ParticipantListResponse getFinishedParticipants(
@@ -95,7 +110,7 @@ public class ParticipantService {
             ParticipantMapper.INSTANCE::toResponse);
         return new ParticipantListResponse(
             responsePage.getContent(), responsePage.getNumber() + 1, responsePage.getTotalPages(),
-            responsePage.getTotalElements());
+            responsePage.getTotalElements(), null);
     }
 
     public ParticipantListResponse getReservedParticipants(
@@ -114,14 +129,68 @@ public class ParticipantService {
             ParticipantMapper.INSTANCE::toResponse);
         return new ParticipantListResponse(
             responsePage.getContent(), responsePage.getNumber() + 1, responsePage.getTotalPages(),
-            responsePage.getTotalElements());
+            responsePage.getTotalElements(), null);
+    }
+
+    // 커서 기반 목록 (withCount 가 true 일 때만 전체 개수 조회)
+    public ParticipantListResponse getFinishedParticipants(
+        AuthCredentials authCredentials, Integer pageSize, Long cursor, boolean withCount)
+        throws SpeechlessException {
+        if (pageSize < 1 || pageSize > 50) {
+            throw new PageException();
+        }
+
+        Member loginMember = getMember(authCredentials);
+
+        List<Community> communities = participantRepository.findFinishedByMemberBefore(
+            loginMember, cursor == null ? Long.MAX_VALUE : cursor,
+            PageRequest.ofSize(pageSize + 1));
+        Long totalCount = withCount
+            ? participantRepository.countFinishedByMember(loginMember) : null;
+
+        return prepareResponseWithCursor(communities, pageSize, totalCount);
+    }
+
+    public ParticipantListResponse getReservedParticipants(
+        AuthCredentials authCredentials, Integer pageSize, Long cursor, boolean withCount)
+        throws SpeechlessException {
+        if (pageSize < 1 || pageSize > 50) {
+            throw new PageException();
+        }
+
+        Member loginMember = getMember(authCredentials);
+
+        List<Community> communities = participantRepository.findReservedByMemberBefore(
+            loginMember, cursor == null ? Long.MAX_VALUE : cursor,
+            PageRequest.ofSize(pageSize + 1));
+        Long totalCount = withCount
+            ? participantRepository.countReservedByMember(loginMember) : null;
+
+        return prepareResponseWithCursor(communities, pageSize, totalCount);
+    }
+
+    private ParticipantListResponse prepareResponseWithCursor(List<Community> communities,
+        int pageSize, Long totalCount) {
+        List<Community> page = new ArrayList<>(communities);
+        Long nextCursor = null;
+
+        if (page.size() > pageSize) {
+            page.remove(page.size() - 1);
+            nextCursor = page.get(page.size() - 1).getId();
+        }
+
+        return new ParticipantListResponse(
+            page.stream().map(ParticipantMapper.INSTANCE::toResponse).toList(),
+            null, null, totalCount, nextCursor);
     }
 
     public List<ParticipantCommunityResponse> getCurrentParticipants(
         AuthCredentials authCredentials)
         throws SpeechlessException {
         Member loginMember = getMember(authCredentials);
-        List<Community> communities = participantRepository.findCurrentByMember(loginMember)
+        LocalDate firstDate = LocalDate.now().withDayOfMonth(1);
+        List<Community> communities = participantRepository.findCurrentByMember(loginMember,
+                toDate(firstDate), toDate(firstDate.plusMonths(1)))
             .orElse(new ArrayList<>());
         return communities.stream().map(ParticipantMapper.INSTANCE::toResponse).toList();
     }
@@ -135,16 +204,15 @@ public class ParticipantService {
         return communities.stream().map(ParticipantMapper.INSTANCE::toResponse).toList();
     }
 
-    public Integer getParticipantNumber(Long communityId) throws SpeechlessException {
-        Community community = getCommunity(communityId);
-        return participantRepository.findAllByCommunity(community).orElse(new ArrayList<>()).size();
-    }
-
     public Participant getParticipant(Long id) throws SpeechlessException {
         return participantRepository.findById(id)
             .orElseThrow(ParticipantNotFoundException::new);
     }
 
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
     private Member getMember(AuthCredentials authCredentials) throws SpeechlessException {
         return memberRepository.findById(authCredentials.id())
             .orElseThrow(MemberNotFoundException::new);
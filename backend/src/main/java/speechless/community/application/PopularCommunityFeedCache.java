@@ -0,0 +1,41 @@
+package speechless.community.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import speechless.common.config.CacheConfig;
+import speechless.community.application.event.CommunityChangedEvent;
+import speechless.community.dto.response.GetCommunitiesResponse;
+
+// 인기 글 목록 캐시 주기적 재생성 및 변경 시 무효화
+@Component
+@RequiredArgsConstructor
+public class PopularCommunityFeedCache {
+
+    public static final int DEFAULT_LIMIT = 8;
+
+    private final CommunityService communityService;
+
+    private final CacheManager cacheManager;
+
+    @Scheduled(fixedDelayString = "${community.popular.refresh-interval-ms:60000}")
+    public void refresh() {
+        communityService.refreshPopularCommunities(DEFAULT_LIMIT);
+    }
+
+    // 캐시된 목록에 포함된 글이 수정/삭제된 경우만 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommunityChanged(CommunityChangedEvent event) {
+
+        Cache cache = cacheManager.getCache(CacheConfig.POPULAR_COMMUNITIES);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().asMap().values().removeIf(
+                value -> value instanceof GetCommunitiesResponse response
+                    && response.containsCommunity(event.communityId()));
+        }
+    }
+}
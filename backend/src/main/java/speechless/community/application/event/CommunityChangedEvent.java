@@ -0,0 +1,6 @@
+package speechless.community.application.event;
+
+// 커뮤니티 글 변경(수정/삭제) 알림
+public record CommunityChangedEvent(Long communityId) {
+
+}
@@ -50,11 +50,16 @@ public class Community extends BaseTimeEntity {
 
     private boolean isDeleted;
 
-    @Column(nullable = false)
+    // 조회수는 CommunityHitCounter 의 UPDATE 로만 증가 (글 수정 시 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     private Long hit = 0L;
 
     private int maxParticipants;
 
+    // 참여 인원 (조건부 UPDATE 로만 증감, 글 수정 시 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
+    private int currentParticipants;
+
     @PrePersist
     public void prePersist(){
         isInvisible = false;
@@ -81,10 +86,6 @@ public class Community extends BaseTimeEntity {
         this.sessionStart = sessionStart;
     }
 
-    public void increaseHit() {
-        this.hit++;
-    }
-
     public void updateMaxParticipants(int maxParticipants) {
         this.maxParticipants = maxParticipants;
     }
@@ -11,6 +11,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -20,6 +22,8 @@ import speechless.common.entity.BaseTimeEntity;
 import speechless.member.domain.Member;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_participant_community_member",
+    columnNames = {"community_id", "member_id"}))
 @Getter
 @Builder
 @AllArgsConstructor
@@ -1,7 +1,12 @@
 package speechless.community.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import speechless.community.domain.Community;
+import speechless.community.dto.response.CommunitySearchResult;
+import speechless.community.dto.response.GetCommunityResponse;
 import speechless.community.exception.CommunityException;
 import speechless.member.domain.Member;
 
@@ -12,6 +17,21 @@ public interface CommunityRepository extends JpaRepository<Community, Long>, Cus
     Optional<Community> findByTitle(String title);
     Optional<Community> findByWriter(Member writer);
 
+    @Modifying
+    @Query("UPDATE Community c SET c.hit = c.hit + :delta WHERE c.id = :id")
+    int increaseHit(@Param("id") Long id, @Param("delta") Long delta);
+
+    // 정원이 남은 경우만 1 증가 (0 이면 정원 초과)
+    @Modifying
+    @Query("UPDATE Community c SET c.currentParticipants = c.currentParticipants + 1 "
+        + "WHERE c.id = :id AND c.currentParticipants < c.maxParticipants")
+    int increaseParticipants(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Community c SET c.currentParticipants = c.currentParticipants - 1 "
+        + "WHERE c.id = :id AND c.currentParticipants > 0")
+    int decreaseParticipants(@Param("id") Long id);
+
     default Community getById(Long id) {
         return findById(id)
                 .orElseThrow(() -> new CommunityException.NotFound(id));
@@ -21,9 +41,9 @@ public interface CommunityRepository extends JpaRepository<Community, Long>, Cus
 interface CustomCommunityRepository{
     List<Community> findCommunitiesWithCursor(Long cursor, int limit);
 
-    List<Community> searchCommunities(String title, String writerName, String content,
+    CommunitySearchResult searchCommunities(String title, String writerName, String content,
                                       String category, Boolean recruiting, Integer maxParticipants,
                                       Long cursor, int limit);
 
-    List<Community> findPopularCommunities();
+    List<GetCommunityResponse> findPopularCommunities();
 }
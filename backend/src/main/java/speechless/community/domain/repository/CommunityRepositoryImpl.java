@@ -1,21 +1,38 @@
 package speechless.community.domain.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import speechless.community.domain.Community;
 import speechless.community.domain.QCommunity;
+import speechless.community.dto.response.CommunitySearchResult;
+import speechless.community.dto.response.GetCommunityResponse;
+import speechless.community.exception.SearchCursorExpiredException;
+import speechless.member.domain.QMember;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class CommunityRepositoryImpl implements CustomCommunityRepository{
+    // 검색 결과 후보 최대 개수
+    private static final int MAX_SEARCH_RESULTS = 1000;
+
     private JPAQueryFactory queryFactory;
 
+    @Autowired
+    private CommunitySearchEngine searchEngine;
+
     @PersistenceContext
     private EntityManager em;
 
@@ -48,10 +65,27 @@ public class CommunityRepositoryImpl implements CustomCommunityRepository{
 
     private BooleanExpression writeEquals(String writerName) {
         return Optional.ofNullable(writerName)
-                .map(QCommunity.community.writer.name::eq)
+                .map(QMember.member.name::eq)
                 .orElse(null);
     }
 
+    // 목록에 표시하는 컬럼만 작성자 이름과 함께 한 번에 조회
+    private ConstructorExpression<GetCommunityResponse> listProjection() {
+        QCommunity community = QCommunity.community;
+        return Projections.constructor(GetCommunityResponse.class,
+                community.id,
+                QMember.member.name,
+                community.category,
+                community.title,
+                community.content,
+                community.sessionStart,
+                community.deadline,
+                community.createdAt,
+                community.maxParticipants,
+                community.hit,
+                community.currentParticipants);
+    }
+
     private BooleanExpression contentContains(String content) {
         return Optional.ofNullable(content)
                 .filter(c -> !c.isEmpty())
@@ -81,13 +115,21 @@ public class CommunityRepositoryImpl implements CustomCommunityRepository{
 
 
     @Override
-    public List<Community> searchCommunities(String title, String writerName, String content, String category, Boolean recruiting, Integer maxParticipants, Long cursor, int limit) {
+    public CommunitySearchResult searchCommunities(String title, String writerName, String content, String category, Boolean recruiting, Integer maxParticipants, Long cursor, int limit) {
         QCommunity community = QCommunity.community;
         BooleanExpression predicate = community.isDeleted.isFalse();
 
-        predicate = Optional.ofNullable(titleContains(title)).map(predicate::and).orElse(predicate);
+        // 색인으로 검색 가능한 검색어는 검색 엔진에서, 나머지는 LIKE 로 처리
+        String indexedTitle = searchEngine.isSearchable(title) ? title : null;
+        String indexedContent = searchEngine.isSearchable(content) ? content : null;
+
+        if (indexedTitle == null) {
+            predicate = Optional.ofNullable(titleContains(title)).map(predicate::and).orElse(predicate);
+        }
         predicate = Optional.ofNullable(writeEquals(writerName)).map(predicate::and).orElse(predicate);
-        predicate = Optional.ofNullable(contentContains(content)).map(predicate::and).orElse(predicate);
+        if (indexedContent == null) {
+            predicate = Optional.ofNullable(contentContains(content)).map(predicate::and).orElse(predicate);
+        }
         predicate = Optional.ofNullable(categoryEquals(category)).map(predicate::and).orElse(predicate);
 
         if(recruiting != null && recruiting) {
@@ -96,24 +138,81 @@ public class CommunityRepositoryImpl implements CustomCommunityRepository{
 
         predicate = Optional.ofNullable(maxParticipantsEquals(maxParticipants)).map(predicate::and).orElse(predicate);
 
+        if (indexedTitle != null || indexedContent != null) {
+            List<Long> rankedIds = searchEngine.search(indexedTitle, indexedContent, MAX_SEARCH_RESULTS);
+            return new CommunitySearchResult(searchRanked(predicate, rankedIds, cursor, limit),
+                    rankedIds.size() >= MAX_SEARCH_RESULTS);
+        }
+
         if (cursor != null) {
             predicate = predicate.and(community.id.lt(cursor));
         }
 
-        return queryFactory.selectFrom(community)
+        return new CommunitySearchResult(queryFactory.select(listProjection())
+                .from(community)
+                .join(community.writer, QMember.member)
                 .where(predicate)
                 .orderBy(community.id.desc())
                 .limit(limit + 1)
-                .fetch();
+                .fetch(), false);
     }
 
 
-    public List<Community> findPopularCommunities() {
+    // 관련도 순 ID 목록에서 커서(직전 페이지 마지막 글) 다음부터 나머지 조건을 적용
+    // 커서가 목록에 없으면 빈 페이지(결과 끝)와 구분되도록 처음부터 다시 검색하라고 알림
+    private List<GetCommunityResponse> searchRanked(BooleanExpression predicate, List<Long> rankedIds, Long cursor, int limit) {
+        int start = 0;
+        if (cursor != null) {
+            start = rankedIds.indexOf(cursor) + 1;
+            if (start == 0) {
+                throw new SearchCursorExpiredException();
+            }
+        }
+
+        List<Long> candidateIds = rankedIds.subList(start, rankedIds.size());
+        if (candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 관련도 순으로 필요한 만큼만 나눠 조회하고, 조건에 걸러진 만큼 다음 구간을 넓힘
+        QCommunity community = QCommunity.community;
+        List<GetCommunityResponse> result = new ArrayList<>();
+        int from = 0;
+        int chunkSize = limit + 1;
+        while (from < candidateIds.size() && result.size() < limit + 1) {
+            List<Long> chunkIds = candidateIds.subList(from, Math.min(from + chunkSize, candidateIds.size()));
+            Map<Long, Integer> rank = new HashMap<>();
+            for (int i = 0; i < chunkIds.size(); i++) {
+                rank.put(chunkIds.get(i), i);
+            }
+
+            List<GetCommunityResponse> chunk = queryFactory.select(listProjection())
+                    .from(community)
+                    .join(community.writer, QMember.member)
+                    .where(predicate.and(community.id.in(chunkIds)))
+                    .fetch();
+
+            chunk.stream()
+                    .sorted(Comparator.comparing(c -> rank.get(c.id())))
+                    .limit(limit + 1 - result.size())
+                    .forEach(result::add);
+
+            from += chunkIds.size();
+            if (chunk.size() < chunkIds.size()) {
+                chunkSize *= 2;
+            }
+        }
+        return result;
+    }
+
+    public List<GetCommunityResponse> findPopularCommunities() {
         QCommunity community = QCommunity.community;
         BooleanExpression predicate = community.isDeleted.isFalse()
                 .and(isRecruiting());
 
-        return queryFactory.selectFrom(community)
+        return queryFactory.select(listProjection())
+                .from(community)
+                .join(community.writer, QMember.member)
                 .where(predicate)
                 .orderBy(community.hit.desc(), community.id.desc())
                 .limit(8)
@@ -0,0 +1,13 @@
+package speechless.community.domain.repository;
+
+import java.util.List;
+
+// 커뮤니티 글 제목/내용 검색
+public interface CommunitySearchEngine {
+
+    // 색인으로 검색할 수 있는 검색어인지 (짧은 검색어는 LIKE 로 처리)
+    boolean isSearchable(String term);
+
+    // 검색어에 맞는 삭제되지 않은 글 ID 를 관련도 순으로 최대 maxResults 개 반환
+    List<Long> search(String title, String content, int maxResults);
+}
@@ -0,0 +1,63 @@
+package speechless.community.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Repository;
+
+// MySQL FULLTEXT (ngram parser) 색인을 이용한 검색
+@Repository
+public class MySqlCommunitySearchEngine implements CommunitySearchEngine {
+
+    // MySQL ngram_token_size 기본값
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public boolean isSearchable(String term) {
+        return term != null && term.replace("\"", "").trim().length() >= NGRAM_TOKEN_SIZE;
+    }
+
+    @Override
+    public List<Long> search(String title, String content, int maxResults) {
+
+        List<String> matches = new ArrayList<>(2);
+        Map<String, String> params = new HashMap<>();
+
+        if (isSearchable(title)) {
+            matches.add("MATCH(c.title) AGAINST (:title IN BOOLEAN MODE)");
+            params.put("title", toPhrase(title));
+        }
+        if (isSearchable(content)) {
+            matches.add("MATCH(c.content) AGAINST (:content IN BOOLEAN MODE)");
+            params.put("content", toPhrase(content));
+        }
+
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = "SELECT c.id FROM community c "
+            + "WHERE c.is_deleted = false AND " + String.join(" AND ", matches) + " "
+            + "ORDER BY " + String.join(" + ", matches) + " DESC, c.id DESC "
+            + "LIMIT :maxResults";
+
+        Query query = em.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+        query.setParameter("maxResults", maxResults);
+
+        List<?> ids = query.getResultList();
+        return ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    // 구문 검색으로 감싸 ngram 이 연속으로 일치하는 글만 (LIKE '%검색어%' 와 같은 의미)
+    private String toPhrase(String term) {
+        return "\"" + term.replace("\"", "").trim() + "\"";
+    }
+}
@@ -1,5 +1,6 @@
 package speechless.community.domain.repository;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -35,14 +36,40 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>,
         + "AND p.community = c")
     Page<Community> findReservedByMember(Member member, Pageable pageable);
 
+    // 커서(keyset) 페이지네이션 : 카운트 쿼리 없이 community id 기준으로 탐색
     @Query(value = "SELECT c FROM Participant p "
-        + "JOIN Member m "
-        + "ON m = :member "
-        + "AND m = p.member "
-        + "JOIN Community c "
-        + "ON MONTH(c.sessionStart) = MONTH(current_date) "
-        + "AND p.community = c")
-    Optional<List<Community>> findCurrentByMember(Member member);
+        + "JOIN p.community c "
+        + "WHERE p.member = :member "
+        + "AND c.sessionStart < current_timestamp "
+        + "AND c.id < :cursor "
+        + "ORDER BY c.id DESC")
+    List<Community> findFinishedByMemberBefore(Member member, Long cursor, Pageable pageable);
+
+    @Query(value = "SELECT c FROM Participant p "
+        + "JOIN p.community c "
+        + "WHERE p.member = :member "
+        + "AND c.sessionStart >= current_timestamp "
+        + "AND c.id < :cursor "
+        + "ORDER BY c.id DESC")
+    List<Community> findReservedByMemberBefore(Member member, Long cursor, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(p) FROM Participant p "
+        + "WHERE p.member = :member "
+        + "AND p.community.sessionStart < current_timestamp")
+    long countFinishedByMember(Member member);
+
+    @Query(value = "SELECT COUNT(p) FROM Participant p "
+        + "WHERE p.member = :member "
+        + "AND p.community.sessionStart >= current_timestamp")
+    long countReservedByMember(Member member);
+
+    // [start, end) 구간 조회 : session_start 인덱스를 탈 수 있도록 컬럼을 가공하지 않는다
+    @Query(value = "SELECT c FROM Participant p "
+        + "JOIN p.community c "
+        + "WHERE p.member = :member "
+        + "AND c.sessionStart >= :start "
+        + "AND c.sessionStart < :end")
+    Optional<List<Community>> findCurrentByMember(Member member, Date start, Date end);
 
     @Query("SELECT c FROM Participant p "
         + "JOIN Member m "
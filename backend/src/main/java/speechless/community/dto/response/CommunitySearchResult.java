@@ -0,0 +1,11 @@
+package speechless.community.dto.response;
+
+import java.util.List;
+
+// capped : 관련도 순 검색 후보가 최대 개수에서 잘려 이후 결과가 더 있을 수 있음
+public record CommunitySearchResult(
+    List<GetCommunityResponse> communities,
+    boolean capped
+) {
+
+}
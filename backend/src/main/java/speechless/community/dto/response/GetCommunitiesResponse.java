@@ -1,23 +1,25 @@
 package speechless.community.dto.response;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import speechless.community.domain.Community;
-import speechless.community.domain.repository.ParticipantRepository;
+import speechless.community.application.CommunityHitCounter;
 
 public record GetCommunitiesResponse(
     List<GetCommunityResponse> getCommunityResponses,
-    Long nextCursor
+    Long nextCursor,
+    // 관련도 순 검색이 최대 개수(1000건)에서 잘려 더 이상 이어서 조회할 수 없음 (결과의 실제 끝과 구분)
+    boolean truncated
 ) {
 
-    public static GetCommunitiesResponse from(List<Community> communities, Long nextCursor, ParticipantRepository participantRepository) {
+    public static GetCommunitiesResponse from(List<GetCommunityResponse> communities, Long nextCursor, boolean truncated, CommunityHitCounter hitCounter) {
         List<GetCommunityResponse> communityResponses = communities.stream()
-                .map(community -> {
-                    Integer participantNumber = participantRepository.findAllByCommunity(community).orElse(new ArrayList<>()).size();
-                    return GetCommunityResponse.from(community, participantNumber);
-                })
+                .map(community -> community.withHit(hitCounter.getHit(community.id(), community.hit())))
                 .collect(Collectors.toList());
-        return new GetCommunitiesResponse(communityResponses, nextCursor);
+        return new GetCommunitiesResponse(communityResponses, nextCursor, truncated);
+    }
+
+    public boolean containsCommunity(Long communityId) {
+        return getCommunityResponses.stream()
+                .anyMatch(response -> response.id().equals(communityId));
     }
 }
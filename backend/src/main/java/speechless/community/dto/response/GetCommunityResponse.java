@@ -18,7 +18,7 @@ public record GetCommunityResponse(
     Integer currentParticipants
 ) {
 
-    public static GetCommunityResponse from(Community community, Integer currentParticipants) {
+    public static GetCommunityResponse from(Community community, Long hit) {
         return new GetCommunityResponse(
             community.getId(),
             community.getWriter().getName(),
@@ -29,8 +29,14 @@ public record GetCommunityResponse(
             community.getDeadline(),
             community.getCreatedAt(),
             community.getMaxParticipants(),
-            community.getHit(),
-            currentParticipants
+            hit,
+            community.getCurrentParticipants()
         );
     }
+
+    // 목록 조회는 DB 조회수에 아직 반영되지 않은 증가분을 더해 응답
+    public GetCommunityResponse withHit(Long hit) {
+        return new GetCommunityResponse(id, writer, category, title, content, sessionStart,
+            deadline, createdAt, maxParticipants, hit, currentParticipants);
+    }
 }
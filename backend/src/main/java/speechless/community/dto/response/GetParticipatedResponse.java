@@ -19,7 +19,7 @@ public record GetParticipatedResponse(
         Boolean isParticipated
 ) {
 
-    public static GetParticipatedResponse from(Community community, Integer currentParticipants, Boolean isParticipated) {
+    public static GetParticipatedResponse from(Community community, Long hit, Boolean isParticipated) {
         return new GetParticipatedResponse(
                 community.getId(),
                 community.getWriter().getName(),
@@ -30,8 +30,8 @@ public record GetParticipatedResponse(
                 community.getDeadline(),
                 community.getCreatedAt(),
                 community.getMaxParticipants(),
-                community.getHit(),
-                currentParticipants,
+                hit,
+                community.getCurrentParticipants(),
                 isParticipated
         );
     }
@@ -5,9 +5,10 @@ import speechless.interview.application.dto.response.InterviewInfoResponse;
 
 public record ParticipantListResponse (
     List<ParticipantCommunityResponse> participants,
-    int currentPage,
-    int totalPage,
-    long totalCount
+    Integer currentPage,
+    Integer totalPage,
+    Long totalCount,
+    Long nextCursor
 ){
 
 }
@@ -0,0 +1,13 @@
+package speechless.community.exception;
+
+import org.springframework.http.HttpStatus;
+import speechless.common.error.ErrorCode;
+import speechless.common.error.SpeechlessException;
+
+// 관련도 순 검색의 커서가 검색 결과에 더 이상 없음 (삭제, 순위 변경, 최대 개수 초과)
+public class SearchCursorExpiredException extends SpeechlessException {
+
+    public SearchCursorExpiredException() {
+        super(new ErrorCode(HttpStatus.GONE, "검색 결과가 바뀌어 이어서 조회할 수 없습니다. 처음부터 다시 검색해주세요."));
+    }
+}
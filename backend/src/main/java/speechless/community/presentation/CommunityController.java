@@ -39,9 +39,9 @@ public class CommunityController {
     @Operation(summary = "특정 글 조회", description = "ID를 통해 특정 글 정보를 조회")
     public ResponseEntity<GetParticipatedResponse> getCommunityById(@Parameter(hidden = true)@Auth AuthCredentials authCredentials, @PathVariable Long id) {
         Community community = communityService.getCommunityById(id);
-        Integer participantNumber = participantService.getParticipantNumber(community.getId());
+        Long hit = communityService.increaseHit(community);
         Boolean isParticipated = participantService.isParticipated(community.getId(), authCredentials.id());
-        return ResponseEntity.ok(GetParticipatedResponse.from(community, participantNumber, isParticipated));
+        return ResponseEntity.ok(GetParticipatedResponse.from(community, hit, isParticipated));
     }
 
     @GetMapping
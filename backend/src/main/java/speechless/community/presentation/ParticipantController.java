@@ -46,8 +46,17 @@ public class ParticipantController {
     @GetMapping("/finished")
     public ResponseEntity<ParticipantListResponse> finishedCommunityList(
         @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
-        @RequestParam Integer pageSize, @RequestParam Integer pageNum
+        @RequestParam Integer pageSize,
+        @RequestParam(required = false) Integer pageNum,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        // pageNum 이 없으면 커서 기반 조회
+        if (pageNum == null) {
+            return new ResponseEntity<>(participantService.getFinishedParticipants(authCredentials, pageSize, cursor, withCount),
+                HttpStatus.OK);
+        }
+
         return new ResponseEntity<>(participantService.getFinishedParticipants(authCredentials, pageSize, pageNum),
             HttpStatus.OK);
     }
@@ -55,8 +64,17 @@ public class ParticipantController {
     @GetMapping("/reserved")
     public ResponseEntity<ParticipantListResponse> reservedCommunityList(
         @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
-        @RequestParam Integer pageSize, @RequestParam Integer pageNum
+        @RequestParam Integer pageSize,
+        @RequestParam(required = false) Integer pageNum,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        // pageNum 이 없으면 커서 기반 조회
+        if (pageNum == null) {
+            return new ResponseEntity<>(participantService.getReservedParticipants(authCredentials, pageSize, cursor, withCount),
+                HttpStatus.OK);
+        }
+
         return new ResponseEntity<>(participantService.getReservedParticipants(authCredentials, pageSize, pageNum),
             HttpStatus.OK);
     }
@@ -0,0 +1,65 @@
+package speechless.interview.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import speechless.interview.domain.InterviewQuestion;
+
+// 면접이 끝날 때 한 번에 피드백을 생성하도록 면접별 세션과 종료 여부를 기록
+// (답변은 피드백 없이 바로 저장하므로 만료되거나 서버가 재시작되어도 잃지 않음)
+@Component
+public class DeferredFeedbackBuffer {
+
+    // 피드백을 기다리는 면접의 세션 ID (종료 시 피드백 전송 대상)
+    private final Cache<Long, String> sessions;
+
+    // 이미 피드백을 생성한 면접 (늦게 도착한 답변은 바로 처리)
+    private final Cache<Long, Boolean> flushed;
+
+    // 피드백을 생성 중인 답변 ID (종료 처리와 늦은 답변이 같은 답변으로 GPT 를 두 번 호출하지 않도록)
+    private final Set<Long> claimed = ConcurrentHashMap.newKeySet();
+
+    public DeferredFeedbackBuffer(
+        @Value("${interview.feedback.deferred-ttl:2h}") Duration ttl) {
+
+        this.sessions = Caffeine.newBuilder()
+            .expireAfterAccess(ttl)
+            .build();
+        this.flushed = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public void register(Long interviewId, String sessionId) {
+        sessions.put(interviewId, sessionId);
+    }
+
+    public boolean isFlushed(Long interviewId) {
+        return flushed.getIfPresent(interviewId) != null;
+    }
+
+    // 종료로 표시하고 세션 ID 를 꺼냄 (만료된 경우 empty)
+    public Optional<String> markFlushed(Long interviewId) {
+
+        flushed.put(interviewId, true);
+        return Optional.ofNullable(sessions.asMap().remove(interviewId));
+    }
+
+    // 다른 쪽에서 생성 중이 아닌 답변만 가져감
+    public List<InterviewQuestion> claim(List<InterviewQuestion> questions) {
+        return questions.stream()
+            .filter(question -> claimed.add(question.getId()))
+            .toList();
+    }
+
+    // 저장했거나 실패한 답변을 놓아 줌 (실패한 답변은 다시 요청 가능)
+    public void release(List<InterviewQuestion> questions) {
+        questions.forEach(question -> claimed.remove(question.getId()));
+    }
+}
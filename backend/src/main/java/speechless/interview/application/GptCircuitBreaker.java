@@ -0,0 +1,172 @@
+package speechless.interview.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import speechless.interview.application.GptScheduler.GptCall;
+import speechless.interview.exception.GptBadRequestException;
+import speechless.interview.exception.GptQueueFullException;
+import speechless.interview.exception.GptRateLimitException;
+
+// 최근 GPT 호출의 실패/지연 비율이 임계치를 넘으면 일정 시간 호출을 차단
+@Slf4j
+@Component
+public class GptCircuitBreaker {
+
+    private final int windowSize;
+
+    private final int minimumCalls;
+
+    private final double failureRateThreshold;
+
+    private final long slowCallNanos;
+
+    private final long openNanos;
+
+    // 최근 호출 결과 (true : 실패 또는 지연)
+    private final boolean[] window;
+
+    private int index;
+
+    private int recorded;
+
+    private int failures;
+
+    private State state = State.CLOSED;
+
+    private long openedAt;
+
+    public GptCircuitBreaker(
+        @Value("${gpt.circuit-breaker.window-size:20}") int windowSize,
+        @Value("${gpt.circuit-breaker.minimum-calls:5}") int minimumCalls,
+        @Value("${gpt.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+        @Value("${gpt.circuit-breaker.slow-call-threshold:15s}") Duration slowCallThreshold,
+        @Value("${gpt.circuit-breaker.open-duration:30s}") Duration openDuration,
+        MeterRegistry meterRegistry) {
+
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.window = new boolean[windowSize];
+
+        Gauge.builder("speechless.gpt.circuit.open", this, breaker -> breaker.isOpen() ? 1 : 0)
+            .register(meterRegistry);
+    }
+
+    // 열린 상태면 false, 열린 지 openDuration 이 지나면 시험 호출 1건만 허용
+    public synchronized boolean isCallPermitted() {
+
+        if (state == State.CLOSED) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        if (now - openedAt < openNanos) {
+            return false;
+        }
+
+        // 시험 호출이 응답 없이 openDuration 을 넘기면 다음 요청으로 다시 시험
+        state = State.HALF_OPEN;
+        openedAt = now;
+        return true;
+    }
+
+    // 호출 소요 시간과 실패 여부를 기록
+    public <T> T record(GptCall<T> call) throws Exception {
+
+        long start = System.nanoTime();
+        return record(call, () -> System.nanoTime() - start);
+    }
+
+    // 스트리밍 호출은 전체 소요 시간이 아닌 첫 응답까지의 시간으로 지연 여부를 판단
+    public void recordStream(GptStreamCall call) throws Exception {
+
+        long start = System.nanoTime();
+        AtomicLong firstChunkAt = new AtomicLong();
+        record(() -> {
+            call.call(() -> firstChunkAt.compareAndSet(0, System.nanoTime()));
+            return null;
+        }, () -> (firstChunkAt.get() != 0 ? firstChunkAt.get() : System.nanoTime()) - start);
+    }
+
+    // 요청 자체의 오류, 대기열 초과, 요청 한도 초과(429, GptScheduler 가 재시도)는 집계에서 제외
+    private <T> T record(GptCall<T> call, LongSupplier elapsedNanos) throws Exception {
+
+        try {
+            T result = call.call();
+            onResult(elapsedNanos.getAsLong() >= slowCallNanos);
+            return result;
+        } catch (GptBadRequestException | GptQueueFullException | GptRateLimitException e) {
+            throw e;
+        } catch (Exception e) {
+            onResult(true);
+            throw e;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+
+    private synchronized void onResult(boolean failed) {
+
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                open();
+            } else {
+                close();
+            }
+            return;
+        }
+
+        if (window[index]) {
+            failures--;
+        }
+        window[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % windowSize;
+        recorded = Math.min(recorded + 1, windowSize);
+
+        if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    private void open() {
+
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        log.warn("GPT 호출 차단 - " + Duration.ofNanos(openNanos).toSeconds() + "초 동안 기본 질문 사용");
+    }
+
+    private void close() {
+
+        state = State.CLOSED;
+        index = 0;
+        recorded = 0;
+        failures = 0;
+        Arrays.fill(window, false);
+        log.info("GPT 호출 재개");
+    }
+
+    @FunctionalInterface
+    public interface GptStreamCall {
+
+        // 첫 응답 조각을 받으면 onFirstChunk 호출
+        void call(Runnable onFirstChunk) throws Exception;
+    }
+
+    private enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
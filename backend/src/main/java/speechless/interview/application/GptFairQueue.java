@@ -0,0 +1,75 @@
+package speechless.interview.application;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+// 회원별 대기열을 라운드 로빈으로 꺼내는 큐 (GptScheduler 의 lock 안에서만 사용)
+class GptFairQueue<T> {
+
+    private final Map<Long, Deque<T>> byMember = new HashMap<>();
+
+    private final Deque<Long> members = new ArrayDeque<>();
+
+    private int size;
+
+    void add(Long memberId, T task) {
+        queueOf(memberId, false).addLast(task);
+        size++;
+    }
+
+    // 재시도 요청은 해당 회원 차례의 맨 앞에 다시 넣음
+    void addFirst(Long memberId, T task) {
+        queueOf(memberId, true).addFirst(task);
+        size++;
+    }
+
+    T peek() {
+        Long memberId = members.peekFirst();
+        return memberId == null ? null : byMember.get(memberId).peekFirst();
+    }
+
+    // 다음 회원의 가장 오래된 요청을 꺼내고 그 회원은 순서의 맨 뒤로
+    T poll() {
+        Long memberId = members.pollFirst();
+        if (memberId == null) {
+            return null;
+        }
+
+        Deque<T> tasks = byMember.get(memberId);
+        T task = tasks.pollFirst();
+        if (tasks.isEmpty()) {
+            byMember.remove(memberId);
+        } else {
+            members.addLast(memberId);
+        }
+
+        size--;
+        return task;
+    }
+
+    int countOf(Long memberId) {
+        Deque<T> tasks = byMember.get(memberId);
+        return tasks == null ? 0 : tasks.size();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Deque<T> queueOf(Long memberId, boolean first) {
+        return byMember.computeIfAbsent(memberId, id -> {
+            if (first) {
+                members.addFirst(id);
+            } else {
+                members.addLast(id);
+            }
+            return new ArrayDeque<>();
+        });
+    }
+}
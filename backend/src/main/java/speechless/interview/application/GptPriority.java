@@ -0,0 +1,6 @@
+package speechless.interview.application;
+
+// 선언 순서가 우선순위 (진행 중인 면접의 피드백이 질문 생성보다 먼저)
+public enum GptPriority {
+    FEEDBACK, QUESTION
+}
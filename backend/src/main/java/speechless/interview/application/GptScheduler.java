@@ -0,0 +1,287 @@
+package speechless.interview.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import speechless.common.metrics.ExecutorMetrics;
+import speechless.interview.config.GptSchedulerProperties;
+import speechless.interview.exception.GptQueueFullException;
+import speechless.interview.exception.GptRateLimitException;
+
+// 모든 GPT 호출을 분당 요청/토큰 한도 안에서 우선순위 → 회원 라운드 로빈 순으로 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptScheduler {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition changed = lock.newCondition();
+
+    private final Map<GptPriority, GptFairQueue<GptTask<?>>> queues = new EnumMap<>(
+        GptPriority.class);
+
+    private final Map<GptPriority, Timer> waitTimers = new EnumMap<>(GptPriority.class);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final GptSchedulerProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private GptTokenBucket requestBucket;
+
+    private GptTokenBucket tokenBucket;
+
+    private long pausedUntil;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private Thread dispatcher;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+
+        long now = System.nanoTime();
+        this.requestBucket = new GptTokenBucket(properties.getRequestsPerMinute(), now);
+        this.tokenBucket = new GptTokenBucket(properties.getTokensPerMinute(), now);
+        this.pausedUntil = now;
+
+        for (GptPriority priority : GptPriority.values()) {
+            GptFairQueue<GptTask<?>> queue = new GptFairQueue<>();
+            queues.put(priority, queue);
+
+            String tag = priority.name().toLowerCase();
+            waitTimers.put(priority, Timer.builder("speechless.gpt.queue.wait")
+                .tag("priority", tag)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+            Gauge.builder("speechless.gpt.queue.size", queue, GptFairQueue::size)
+                .tag("priority", tag)
+                .register(meterRegistry);
+        }
+        Gauge.builder("speechless.gpt.inflight", inFlight, AtomicInteger::get)
+            .register(meterRegistry);
+
+        this.executor = createExecutor();
+
+        this.running = true;
+        this.dispatcher = new Thread(this::dispatch, "SPEECHLESS-GPT-DISPATCHER");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+
+        running = false;
+        dispatcher.interrupt();
+        executor.shutdown();
+    }
+
+    // 회원(ownerId) 단위로 공정하게 처리 (피드백도 면접의 회원 ID 로 요청)
+    public <T> CompletableFuture<T> submit(Long ownerId, GptPriority priority,
+        int estimatedTokens, GptCall<T> call) {
+
+        GptTask<T> task = new GptTask<>(ownerId, priority, estimatedTokens, call);
+
+        lock.lock();
+        try {
+            GptFairQueue<GptTask<?>> queue = queues.get(priority);
+            if (queue.countOf(ownerId) >= properties.getMaxQueuedPerMember()) {
+                throw new GptQueueFullException();
+            }
+
+            queue.add(ownerId, task);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        return task.future;
+    }
+
+    private void dispatch() {
+
+        while (running) {
+            try {
+                GptTask<?> task = awaitNext();
+                if (task != null) {
+                    executor.execute(() -> run(task));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("GPT 호출 배정 실패", e);
+            }
+        }
+    }
+
+    // 동시 실행 수, 한도 초과 대기, 요청/토큰 버킷을 모두 만족하는 다음 요청을 꺼냄
+    private GptTask<?> awaitNext() throws InterruptedException {
+
+        lock.lock();
+        try {
+            while (running) {
+                GptTask<?> task = peek();
+                if (task == null || inFlight.get() >= properties.getMaxConcurrency()) {
+                    changed.await();
+                    continue;
+                }
+
+                long now = System.nanoTime();
+                long waitNanos = Math.max(pausedUntil - now,
+                    Math.max(requestBucket.nanosUntil(1, now),
+                        tokenBucket.nanosUntil(task.estimatedTokens, now)));
+                if (waitNanos > 0) {
+                    changed.awaitNanos(waitNanos);
+                    continue;
+                }
+
+                queues.get(task.priority).poll();
+                requestBucket.take(1, now);
+                tokenBucket.take(task.estimatedTokens, now);
+                inFlight.incrementAndGet();
+
+                waitTimers.get(task.priority)
+                    .record(now - task.enqueuedAt, TimeUnit.NANOSECONDS);
+                return task;
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private GptTask<?> peek() {
+
+        for (GptFairQueue<GptTask<?>> queue : queues.values()) {
+            if (!queue.isEmpty()) {
+                return queue.peek();
+            }
+        }
+        return null;
+    }
+
+    private <T> void run(GptTask<T> task) {
+
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = task.call.call();
+        } catch (GptRateLimitException e) {
+            if (retryLater(task, e)) {
+                return;
+            }
+            failure = e;
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            lock.lock();
+            try {
+                inFlight.decrementAndGet();
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 이어진 저장/전송 작업이 동시 실행 수를 차지하지 않도록 슬롯을 반납한 뒤 완료
+        if (failure != null) {
+            task.future.completeExceptionally(failure);
+        } else {
+            task.future.complete(result);
+        }
+    }
+
+    // 429 응답 : 모든 호출을 Retry-After 만큼 멈추고 버킷을 비운 뒤 같은 요청을 맨 앞에서 재시도
+    // 재시도 횟수를 넘으면 false (호출한 쪽에서 실패로 완료)
+    private <T> boolean retryLater(GptTask<T> task, GptRateLimitException e) {
+
+        Duration retryAfter = e.getRetryAfter() != null
+            ? e.getRetryAfter() : properties.getDefaultRetryAfter();
+
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            pausedUntil = Math.max(pausedUntil, now + retryAfter.toNanos());
+            requestBucket.drain(now);
+            tokenBucket.drain(now);
+
+            if (task.attempts >= properties.getMaxRetries()) {
+                return false;
+            }
+
+            task.attempts++;
+            queues.get(task.priority).addFirst(task.ownerId, task);
+            log.warn("GPT 요청 한도 초과 - " + retryAfter.toMillis() + "ms 후 재시도");
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ThreadPoolTaskExecutor createExecutor() {
+
+        // 동시 실행 수는 dispatcher 가 제한하므로 대기열이 쌓이지 않음
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxConcurrency());
+        executor.setMaxPoolSize(properties.getMaxConcurrency());
+        executor.setThreadNamePrefix("SPEECHLESS-GPT-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        ExecutorMetrics.monitor(executor, "gpt", meterRegistry);
+
+        return executor;
+    }
+
+    @FunctionalInterface
+    public interface GptCall<T> {
+
+        T call() throws Exception;
+    }
+
+    private static class GptTask<T> {
+
+        private final Long ownerId;
+
+        private final GptPriority priority;
+
+        private final int estimatedTokens;
+
+        private final GptCall<T> call;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private final long enqueuedAt = System.nanoTime();
+
+        private int attempts;
+
+        private GptTask(Long ownerId, GptPriority priority, int estimatedTokens,
+            GptCall<T> call) {
+
+            this.ownerId = ownerId;
+            this.priority = priority;
+            this.estimatedTokens = estimatedTokens;
+            this.call = call;
+        }
+    }
+}
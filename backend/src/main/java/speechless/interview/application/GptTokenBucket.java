@@ -0,0 +1,45 @@
+package speechless.interview.application;
+
+import java.util.concurrent.TimeUnit;
+
+// 분당 한도만큼 연속적으로 채워지는 토큰 버킷 (GptScheduler 의 lock 안에서만 사용)
+class GptTokenBucket {
+
+    private final double capacity;
+
+    private final double refillPerNano;
+
+    private double available;
+
+    private long lastRefill;
+
+    GptTokenBucket(long perMinute, long now) {
+        this.capacity = perMinute;
+        this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.available = capacity;
+        this.lastRefill = now;
+    }
+
+    // amount 만큼 사용할 수 있을 때까지 남은 시간 (한도보다 큰 요청은 가득 찰 때까지)
+    long nanosUntil(double amount, long now) {
+        refill(now);
+        double needed = Math.min(amount, capacity) - available;
+        return needed <= 0 ? 0 : (long) Math.ceil(needed / refillPerNano);
+    }
+
+    void take(double amount, long now) {
+        refill(now);
+        available -= Math.min(amount, capacity);
+    }
+
+    // 한도 초과 응답(429) 시 남은 양을 비워 호출 속도를 낮춤
+    void drain(long now) {
+        refill(now);
+        available = 0;
+    }
+
+    private void refill(long now) {
+        available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
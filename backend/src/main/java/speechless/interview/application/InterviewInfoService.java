@@ -2,7 +2,7 @@ package speechless.interview.application;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,6 +13,7 @@ import speechless.auth.dto.AuthCredentials;
 import speechless.common.error.validation.PageException;
 import speechless.interview.application.dto.response.InterviewInfoResponse;
 import speechless.interview.application.dto.response.InterviewListResponse;
+import speechless.interview.application.dto.response.InterviewSummaryResponse;
 import speechless.interview.domain.InterviewInfo;
 import speechless.interview.domain.mapper.InterviewInfoMapper;
 import speechless.interview.domain.repository.InterviewInfoRepository;
@@ -78,43 +79,70 @@ public class InterviewInfoService {
 
         Member loginMember = getMember(authCredentials);
 
-        Page<InterviewInfo> interviewInfos = interviewRepository.findAllByMemberAndIsCompletionIsTrue(
+        Page<InterviewSummaryResponse> responsePage = interviewRepository.findSummariesByMember(
             loginMember, PageRequest.of(pageNum - 1, pageSize, Sort.by("id").descending()));
 
-        Page<InterviewInfoResponse> responsePage = interviewInfos.map(
-            InterviewInfoMapper.INSTANCE::toResponse);
         return new InterviewListResponse(
             responsePage.getContent(), responsePage.getNumber() + 1,
-            responsePage.getTotalPages(), responsePage.getTotalElements()
+            responsePage.getTotalPages(), responsePage.getTotalElements(), null
         );
     }
 
+    // 커서 기반 목록 (withCount 가 true 일 때만 전체 개수 조회)
+    public InterviewListResponse getInterviewInfos(AuthCredentials authCredentials,
+        Integer pageSize, Long cursor, boolean withCount) {
 
-    public InterviewInfoResponse getInterviewInfo(AuthCredentials authCredentials, Long id) {
+        if (pageSize < 1 || pageSize > 50) {
+            throw new PageException();
+        }
 
-        Member loginMember = memberRepository.findById(authCredentials.id())
-            .orElseThrow(MemberNotFoundException::new);
+        Member loginMember = getMember(authCredentials);
+
+        List<InterviewSummaryResponse> interviewInfos = new ArrayList<>(
+            interviewRepository.findSummariesByMemberBefore(
+                loginMember, cursor == null ? Long.MAX_VALUE : cursor,
+                PageRequest.ofSize(pageSize + 1)));
+
+        Long nextCursor = null;
+        if (interviewInfos.size() > pageSize) {
+            interviewInfos.remove(interviewInfos.size() - 1);
+            nextCursor = interviewInfos.get(interviewInfos.size() - 1).id();
+        }
+
+        Long totalCount = withCount
+            ? interviewRepository.countByMemberAndIsCompletionIsTrue(loginMember) : null;
+
+        return new InterviewListResponse(
+            interviewInfos, null, null, totalCount, nextCursor
+        );
+    }
+
+
+    public void validateOwner(AuthCredentials authCredentials, Long id) {
+
+        if (!interviewRepository.existsByIdAndMemberId(id, authCredentials.id())) {
+            throw new InterviewNotFoundException();
+        }
+    }
+
+    public InterviewInfoResponse getInterviewInfo(AuthCredentials authCredentials, Long id) {
 
         return InterviewInfoMapper.INSTANCE.toResponse(
-            interviewRepository.findByIdAndMember(id, loginMember)
+            interviewRepository.findByIdAndMemberId(id, authCredentials.id())
                 .orElseThrow(InterviewNotFoundException::new));
 
     }
 
-    public List<InterviewInfoResponse> getMonthlyInterviewInfo(
+    public List<InterviewSummaryResponse> getMonthlyInterviewInfo(
         AuthCredentials authCredentials, Integer year, Integer month) {
 
         Member loginMember = getMember(authCredentials);
 
         LocalDate firstDate = LocalDate.of(year.intValue(), month.intValue(), 1);
-        LocalDate lastDate = firstDate.withDayOfMonth(firstDate.lengthOfMonth());
 
-        List<InterviewInfo> result = interviewRepository.findAllByMemberAndStartTimeBetweenAndIsCompletionIsTrue(
-            loginMember, LocalDateTime.of(firstDate, LocalTime.MIN),
-            LocalDateTime.of(lastDate, LocalTime.MAX.minusSeconds(1))
+        return interviewRepository.findMonthlySummariesByMember(
+            loginMember, firstDate.atStartOfDay(), firstDate.plusMonths(1).atStartOfDay()
         );
-
-        return result.stream().map(InterviewInfoMapper.INSTANCE::toResponse).toList();
     }
 
     private Member getMember(AuthCredentials authCredentials) {
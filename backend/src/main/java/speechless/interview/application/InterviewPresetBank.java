@@ -0,0 +1,116 @@
+package speechless.interview.application;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import speechless.interview.domain.InterviewPreset;
+import speechless.interview.domain.repository.InterviewPresetRepository;
+
+// GPT 장애 시 사용할 기본 질문을 시작 시 메모리에 올려 직무별로 보관 (직무가 없으면 공통 질문)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterviewPresetBank {
+
+    // 직무명을 단어 단위로 나눌 때 쓰는 구분자 (공백, 슬래시, 괄호 등)
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[\\s/,·()\\[\\]&+|_-]+");
+
+    private final InterviewPresetRepository presetRepository;
+
+    private volatile Map<String, List<InterviewPreset>> byPosition = Map.of();
+
+    private volatile List<InterviewPreset> common = List.of();
+
+    @PostConstruct
+    public void load() {
+
+        Map<String, List<InterviewPreset>> positions = new HashMap<>();
+        List<InterviewPreset> commons = new ArrayList<>();
+
+        for (InterviewPreset preset : presetRepository.findAll()) {
+            if (preset.getPosition() == null) {
+                commons.add(preset);
+            } else {
+                positions.computeIfAbsent(normalize(preset.getPosition()), key -> new ArrayList<>())
+                    .add(preset);
+            }
+        }
+
+        positions.replaceAll((key, presets) -> List.copyOf(presets));
+        this.byPosition = Map.copyOf(positions);
+        this.common = List.copyOf(commons);
+
+        log.info("기본 면접 질문 로딩 - 직무 " + byPosition.size() + "개, 공통 " + common.size() + "개");
+    }
+
+    // 지원 직무에 해당하는 질문을 먼저, 부족하면 공통 질문으로 채워 count 개까지 반환
+    // 직무는 전체 또는 단어가 정확히 같을 때만 일치 ("AI" 는 "maintenance" 와 일치하지 않음)
+    public List<String> pick(String position, int count) {
+
+        List<InterviewPreset> matched = new ArrayList<>();
+        for (String key : positionKeys(position)) {
+            matched.addAll(byPosition.getOrDefault(key, List.of()));
+        }
+
+        List<String> picked = spreadByTopic(matched);
+        picked.addAll(spreadByTopic(common));
+
+        return List.copyOf(picked.subList(0, Math.min(count, picked.size())));
+    }
+
+    // 직무명 전체와 각 단어를 정규화한 값 ("백엔드 개발자" → 백엔드개발자, 백엔드, 개발자)
+    private Set<String> positionKeys(String position) {
+
+        Set<String> keys = new LinkedHashSet<>();
+        if (position == null || position.isBlank()) {
+            return keys;
+        }
+
+        keys.add(normalize(position));
+        for (String token : TOKEN_DELIMITER.split(position)) {
+            if (!token.isBlank()) {
+                keys.add(normalize(token));
+            }
+        }
+        return keys;
+    }
+
+    // 같은 주제의 질문이 몰리지 않도록 주제별로 섞은 뒤 번갈아 꺼냄
+    private List<String> spreadByTopic(List<InterviewPreset> presets) {
+
+        List<InterviewPreset> shuffled = new ArrayList<>(presets);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+
+        Map<String, List<String>> byTopic = new LinkedHashMap<>();
+        for (InterviewPreset preset : shuffled) {
+            byTopic.computeIfAbsent(preset.getTopic(), key -> new ArrayList<>())
+                .add(preset.getQuestion());
+        }
+
+        List<String> spread = new ArrayList<>(presets.size());
+        for (int round = 0; spread.size() < presets.size(); round++) {
+            for (List<String> questions : byTopic.values()) {
+                if (round < questions.size()) {
+                    spread.add(questions.get(round));
+                }
+            }
+        }
+        return spread;
+    }
+
+    private String normalize(String position) {
+        return position.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+}
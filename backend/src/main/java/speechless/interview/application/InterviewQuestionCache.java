@@ -0,0 +1,149 @@
+package speechless.interview.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import speechless.statement.application.event.StatementChangedEvent;
+import speechless.statement.domain.Statement;
+import speechless.statement.domain.StatementQuestion;
+
+// 프롬프트 입력값 해시를 키로 생성된 면접 질문을 보관
+@Component
+public class InterviewQuestionCache {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final Cache<String, CachedQuestions> cache;
+
+    private final Map<Long, Set<String>> keysByStatement = new ConcurrentHashMap<>();
+
+    private final boolean rotate;
+
+    private final int rotationSize;
+
+    public InterviewQuestionCache(
+        @Value("${interview.question-cache.max-size:1000}") long maxSize,
+        @Value("${interview.question-cache.ttl-minutes:1440}") long ttlMinutes,
+        @Value("${interview.question-cache.rotate:false}") boolean rotate,
+        @Value("${interview.question-cache.rotation-size:3}") int rotationSize) {
+
+        this.rotate = rotate;
+        this.rotationSize = rotationSize;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .<String, CachedQuestions>removalListener(
+                (key, value, cause) -> unindex(key, value))
+            .build();
+    }
+
+    public String createKey(Statement statement, Integer questionCnt, String model,
+        Float temperature) {
+
+        StringBuilder sb = new StringBuilder(3000);
+        sb.append(model).append(SEPARATOR)
+            .append(temperature).append(SEPARATOR)
+            .append(questionCnt).append(SEPARATOR)
+            .append(statement.getCompany()).append(SEPARATOR)
+            .append(statement.getPosition()).append(SEPARATOR)
+            .append(statement.getCareer()).append(SEPARATOR);
+
+        for (StatementQuestion question : statement.getQuestions()) {
+            sb.append(question.getQuestion()).append(SEPARATOR)
+                .append(question.getAnswer()).append(SEPARATOR);
+        }
+
+        return sha256(sb.toString());
+    }
+
+    // 회전 모드에서는 저장된 질문 세트가 rotationSize 개가 될 때까지 새로 생성
+    public Optional<List<String>> get(String key) {
+
+        CachedQuestions cached = cache.getIfPresent(key);
+        if (cached == null || cached.questionSets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!rotate) {
+            return Optional.of(cached.questionSets.get(0));
+        }
+
+        if (cached.questionSets.size() < rotationSize) {
+            return Optional.empty();
+        }
+
+        int index = Math.floorMod(cached.cursor.getAndIncrement(), cached.questionSets.size());
+        return Optional.of(cached.questionSets.get(index));
+    }
+
+    public void put(Long statementId, String key, List<String> questions) {
+
+        CachedQuestions cached = cache.get(key, k -> new CachedQuestions());
+        cached.statementIds.add(statementId);
+        if (cached.questionSets.size() < rotationSize) {
+            cached.questionSets.add(List.copyOf(questions));
+        }
+
+        keysByStatement.computeIfAbsent(statementId, id -> ConcurrentHashMap.newKeySet())
+            .add(key);
+    }
+
+    public void evictStatement(Long statementId) {
+
+        Set<String> keys = keysByStatement.remove(statementId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    @EventListener
+    public void onStatementChanged(StatementChangedEvent event) {
+        evictStatement(event.statementId());
+    }
+
+    private void unindex(String key, CachedQuestions value) {
+
+        if (key == null || value == null) {
+            return;
+        }
+
+        value.statementIds.forEach(statementId -> keysByStatement.computeIfPresent(
+            statementId, (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            }));
+    }
+
+    private String sha256(String value) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedQuestions {
+
+        private final Set<Long> statementIds = ConcurrentHashMap.newKeySet();
+
+        private final List<List<String>> questionSets = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger cursor = new AtomicInteger();
+    }
+}
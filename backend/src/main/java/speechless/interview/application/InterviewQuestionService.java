@@ -1,15 +1,27 @@
 package speechless.interview.application;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.StringTokenizer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import speechless.common.config.AsyncConfig;
 import speechless.common.error.SpeechlessException;
 import speechless.interview.application.dto.GptRequest;
 import speechless.interview.application.dto.GptResponse;
@@ -21,6 +33,10 @@ import speechless.interview.domain.InterviewInfo;
 import speechless.interview.domain.InterviewQuestion;
 import speechless.interview.domain.mapper.InterviewQuestionMapper;
 import speechless.interview.domain.repository.InterviewInfoRepository;
+import speechless.interview.domain.repository.InterviewQuestionBatchRepository;
+import speechless.interview.domain.repository.InterviewQuestionRepository;
+import speechless.interview.exception.GptUnavailableException;
+import speechless.interview.exception.InterviewNotFoundException;
 import speechless.interview.utils.GptUtil;
 import speechless.session.openVidu.dto.Signal;
 import speechless.session.openVidu.dto.Signal.SignalType;
@@ -30,6 +46,7 @@ import speechless.statement.domain.StatementQuestion;
 import speechless.statement.domain.repository.StatementRepository;
 import speechless.statement.excepiton.StatementNotFoundException;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class InterviewQuestionService {
@@ -38,45 +55,214 @@ public class InterviewQuestionService {
 
     private final Float TEMPERATURE = 0.2f;
 
+    // 응답 예상 토큰 (질문 1개당, 피드백 1건당)
+    private static final int QUESTION_COMPLETION_TOKENS = 100;
+
+    private static final int FEEDBACK_COMPLETION_TOKENS = 500;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private final GptUtil gptUtil;
+
+    private final GptScheduler gptScheduler;
+
     private final SignalUtil signalUtil;
 
     private final InterviewInfoRepository interviewInfoRepository;
 
     private final StatementRepository statementRepository;
 
-    private GptResponse callGpt(String sessionId, List<Message> messages) throws Exception {
-        GptResponse response;
+    private final PlatformTransactionManager transactionManager;
+
+    private final InterviewQuestionCache questionCache;
+
+    private final GptCircuitBreaker circuitBreaker;
+
+    private final InterviewPresetBank presetBank;
+
+    private final DeferredFeedbackBuffer feedbackBuffer;
+
+    private final InterviewQuestionBatchRepository questionBatchRepository;
+
+    private final InterviewQuestionRepository questionRepository;
+
+    // 대기열을 거친 호출 결과를 기다리지 않고 future 로 반환 (실패 시 세션에 오류 알림)
+    private CompletableFuture<GptResponse> callGpt(Long memberId, String sessionId,
+        List<Message> messages, int completionTokens) {
+
+        CompletableFuture<GptResponse> response;
+        try {
+            // GPT 장애로 호출이 차단된 동안은 타임아웃까지 기다리지 않고 바로 실패
+            if (!circuitBreaker.isCallPermitted()) {
+                throw new GptUnavailableException();
+            }
+
+            GptRequest request = new GptRequest(MODEL, messages, TEMPERATURE);
+            response = gptScheduler.submit(memberId, GptPriority.FEEDBACK,
+                estimateTokens(messages, completionTokens),
+                () -> circuitBreaker.record(() -> gptUtil.call(request)));
+        } catch (SpeechlessException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        return response.whenComplete((result, e) -> {
+            if (unwrap(e) instanceof SpeechlessException exception) {
+                sendErrorSignal(sessionId, exception);
+            }
+        });
+    }
+
+    private CompletableFuture<Void> streamGpt(Long memberId, List<Message> messages,
+        int questionCnt, Consumer<String> lineConsumer) {
 
+        GptRequest request = new GptRequest(MODEL, messages, TEMPERATURE);
         try {
-            response = GptUtil.call(new GptRequest(MODEL, messages, TEMPERATURE));
+            return gptScheduler.submit(memberId, GptPriority.QUESTION,
+                estimateTokens(messages, QUESTION_COMPLETION_TOKENS * questionCnt),
+                () -> {
+                    circuitBreaker.recordStream(firstChunk -> gptUtil.stream(request, line -> {
+                        firstChunk.run();
+                        lineConsumer.accept(line);
+                    }));
+                    return null;
+                });
         } catch (SpeechlessException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // future 실패 원인에서 CompletionException 을 벗겨냄
+    private static Throwable unwrap(Throwable e) {
+
+        if (e instanceof CompletionException && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
 
-            // Exception to response
-            Map<String, Object> data = new HashMap<>();
-            data.put("name", e.getClass().getSimpleName());
-            data.put("message", e.getErrorCode().message());
+    // 비동기 호출은 결과를 기다리는 곳이 없으므로 실패를 여기서 기록
+    private CompletableFuture<Void> logFailure(CompletableFuture<Void> future, String message) {
 
-            signalUtil.sendSignal(
-                new Signal(sessionId, SignalType.ERROR, objectMapper.writeValueAsString(data)));
+        return future.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error(message, unwrap(e));
+            }
+        });
+    }
+
+    // 요청 토큰 추정치 : 메시지 글자 수(한국어는 대략 글자당 1토큰) + 예상 응답 토큰
+    private int estimateTokens(List<Message> messages, int completionTokens) {
 
-            throw e;
+        int promptTokens = 0;
+        for (Message message : messages) {
+            promptTokens += message.getContent().length();
         }
+        return promptTokens + completionTokens;
+    }
+
+    private void sendErrorSignal(String sessionId, SpeechlessException e) {
 
-        return response;
+        // 세션 정보가 만료되어 알릴 대상이 없음
+        if (sessionId == null) {
+            return;
+        }
+
+        // Exception to response
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", e.getClass().getSimpleName());
+        data.put("message", e.getErrorCode().message());
+
+        sendSignal(sessionId, SignalType.ERROR, data);
     }
 
-    @Transactional
-    @Async
-    public void asyncCreateQuestion(
-        Long memberId, QuestionRequest request)
-        throws Exception {
+    // GPT 응답을 기다리지 않고 반환하므로 대기 동안 GPT 작업 스레드를 점유하지 않음
+    @Async(AsyncConfig.GPT_EXECUTOR)
+    public CompletableFuture<Void> asyncCreateQuestion(Long memberId, QuestionRequest request) {
+        return createQuestion(memberId, request);
+    }
+
+    public CompletableFuture<Void> createQuestion(Long memberId, QuestionRequest request) {
+
+        // 1. 짧은 읽기 트랜잭션 : 자기소개서로 프롬프트 및 캐시 키 생성
+        QuestionPrompt prompt = readInTransaction(
+            status -> createQuestionPrompt(memberId, request));
+
+        // 2. 동일한 입력으로 생성된 질문이 있으면 GPT 호출 없이 바로 전송
+        Optional<List<String>> cached = questionCache.get(prompt.cacheKey());
+        if (cached.isPresent()) {
+            sendQuestionSignal(request.sessionId(), cached.get());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 3. GPT 장애로 호출이 차단된 동안은 기본 질문을 바로 전송
+        List<String> questions = new ArrayList<>(request.questionCnt());
+        if (!circuitBreaker.isCallPermitted()) {
+            return sendPresetQuestions(request.sessionId(), prompt.position(), questions,
+                request.questionCnt(), new GptUnavailableException());
+        }
+
+        // 4. 트랜잭션 없이 GPT 호출 : 질문이 한 줄 완성될 때마다 지금까지의 질문 목록을 전송
+        return streamGpt(memberId, prompt.messages(), request.questionCnt(), question -> {
+            if (questions.size() >= request.questionCnt()) {
+                return;
+            }
+
+            questions.add(question);
+            sendQuestionSignal(request.sessionId(), questions);
+        }).handle((result, e) -> {
+            if (e != null) {
+                log.warn("면접 질문 생성 실패, 기본 질문으로 대체 - " + request.sessionId(), unwrap(e));
+                return sendPresetQuestions(request.sessionId(), prompt.position(), questions,
+                    request.questionCnt(), unwrap(e));
+            }
+
+            // 5. 요청한 개수만큼 생성된 경우만 캐시에 저장
+            if (questions.size() == request.questionCnt()) {
+                questionCache.put(request.statementId(), prompt.cacheKey(), questions);
+            }
+            return CompletableFuture.<Void>completedFuture(null);
+        }).thenCompose(Function.identity());
+    }
+
+    // 생성된 질문이 모자란 만큼 기본 질문으로 채워 전송 (기본 질문도 없으면 원래 오류로 실패)
+    private CompletableFuture<Void> sendPresetQuestions(String sessionId, String position,
+        List<String> questions, int questionCnt, Throwable cause) {
+
+        for (String preset : presetBank.pick(position, questionCnt)) {
+            if (questions.size() >= questionCnt) {
+                break;
+            }
+            if (!questions.contains(preset)) {
+                questions.add(preset);
+            }
+        }
+
+        if (!questions.isEmpty()) {
+            sendQuestionSignal(sessionId, questions);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (cause instanceof SpeechlessException exception) {
+            sendErrorSignal(sessionId, exception);
+        }
+        return CompletableFuture.failedFuture(cause);
+    }
+
+    private QuestionPrompt createQuestionPrompt(Long memberId, QuestionRequest request) {
 
         Statement statement = statementRepository.findByMemberIdAndId(memberId,
                 request.statementId())
             .orElseThrow(StatementNotFoundException::new);
 
+        String cacheKey = questionCache.createKey(statement, request.questionCnt(), MODEL,
+            TEMPERATURE);
+
+        return new QuestionPrompt(cacheKey, statement.getPosition(),
+            createQuestionMessages(statement, request));
+    }
+
+    private List<Message> createQuestionMessages(Statement statement, QuestionRequest request) {
+
         List<Message> gptMessage = new ArrayList<>(2);
 
         // 시스템 설정 및 본 질문 생성
@@ -91,13 +277,21 @@ public class InterviewQuestionService {
                 new Message(UserType.USER, createQuestionUserMessage(question)))
         );
 
-        GptResponse gptResponse = callGpt(request.sessionId(), gptMessage);
+        return gptMessage;
+    }
+
+    private void sendQuestionSignal(String sessionId, List<String> questions) {
+        sendSignal(sessionId, SignalType.QUESTION, questions);
+    }
+
+    private void sendSignal(String sessionId, SignalType type, Object data) {
 
-        // 질문 파싱
-        List<String> data = parsingQuestion(gptResponse, request.questionCnt());
-        signalUtil.sendSignal(
-            new Signal(request.sessionId(), SignalType.QUESTION,
-                objectMapper.writeValueAsString(data)));
+        try {
+            signalUtil.sendSignalAsync(
+                new Signal(sessionId, type, objectMapper.writeValueAsString(data)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     // 질문 배경 질의 생성
@@ -137,53 +331,215 @@ public class InterviewQuestionService {
         return sb.toString();
     }
 
-    private List<String> parsingQuestion(GptResponse response, Integer questionCnt) {
+    @Async(AsyncConfig.GPT_EXECUTOR)
+    public CompletableFuture<Void> asyncCreateFeedback(
+        Long interviewId, String sessionId, String question, String answer
+    ) {
+        return logFailure(createFeedback(interviewId, sessionId, question, answer),
+            "피드백 생성 실패 - " + interviewId);
+    }
 
-        String content = response.getChoices().get(0).getMessage().getContent();
+    // 피드백 생성 요청 후 바로 반환하고 응답이 오면 저장/전송 (녹음 처리 파이프라인의 피드백 단계)
+    public CompletableFuture<Void> createFeedback(
+        Long interviewId, String sessionId, String question, String answer
+    ) {
 
-        List<String> questions = new ArrayList<>(questionCnt);
+        // 1. 면접의 회원 ID 만 확인 (커넥션을 바로 반납)
+        Long memberId = findMemberId(interviewId);
 
-        StringTokenizer st = new StringTokenizer(content, "\n", false);
-        while (st.hasMoreTokens()) {
+        // 2. 트랜잭션 없이 GPT 호출
+        return requestFeedback(memberId, sessionId, question, answer).thenAccept(feedback -> {
+            InterviewQuestion questionEntity = InterviewQuestion.builder()
+                .question(question).answer(answer).feedback(feedback).build();
 
-            String question = st.nextToken();
-            if (question.isEmpty()) {
-                continue;
-            }
+            // 3. 짧은 쓰기 트랜잭션 : 피드백 저장
+            writeInTransaction(status -> {
+                InterviewInfo interview = interviewInfoRepository.findByInterviewId(interviewId);
+                interview.addQuestion(questionEntity);
+            });
 
-            questions.add(question);
-        }
-
-        return questions;
+            sendSignal(sessionId, SignalType.FEEDBACK,
+                InterviewQuestionMapper.INSTANCE.questionToResponse(questionEntity));
+        });
     }
 
-    @Transactional
-    @Async
-    public void asyncCreateFeedback(
-        Long interviewId, String sessionId, String question, String answer
-    ) throws Exception {
+    // 피드백도 면접의 회원 단위로 공정하게 처리
+    private Long findMemberId(Long interviewId) {
+        return interviewInfoRepository.findMemberIdById(interviewId)
+            .orElseThrow(InterviewNotFoundException::new);
+    }
 
-        InterviewInfo interview = interviewInfoRepository.findByInterviewId(interviewId);
+    private CompletableFuture<String> requestFeedback(
+        Long memberId, String sessionId, String question, String answer
+    ) {
 
         List<Message> gptMessage = new ArrayList<>(2);
 
         gptMessage.add(new Message(UserType.SYSTEM, createFeedbackSystemMessage()));
         gptMessage.add(new Message(UserType.USER, createFeedbackUserMessage(question, answer)));
 
-        GptResponse response = callGpt(sessionId, gptMessage);
+        return callGpt(memberId, sessionId, gptMessage, FEEDBACK_COMPLETION_TOKENS)
+            .thenApply(response -> response.getChoices().get(0).getMessage().getContent());
+    }
+
+    // 답변은 피드백 없이 바로 저장하고 면접 종료 시 한 번에 생성 (이미 종료된 면접이면 바로 생성)
+    public CompletableFuture<Void> deferFeedback(
+        Long interviewId, String sessionId, String question, String answer
+    ) {
+
+        feedbackBuffer.register(interviewId, sessionId);
 
-        String feedback = response.getChoices().get(0).getMessage().getContent();
         InterviewQuestion questionEntity = InterviewQuestion.builder()
-            .question(question).answer(answer).feedback(feedback).build();
+            .question(question).answer(answer).build();
+        writeInTransaction(status -> {
+            InterviewInfo interview = interviewInfoRepository.findByInterviewId(interviewId);
+            interview.addQuestion(questionEntity);
+        });
+
+        // 저장 후 확인하므로 종료 처리와 겹쳐도 둘 중 한 쪽은 이 답변을 처리
+        if (feedbackBuffer.isFlushed(interviewId)) {
+            return fillFeedback(findMemberId(interviewId), interviewId, sessionId,
+                List.of(questionEntity));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Async(AsyncConfig.GPT_EXECUTOR)
+    public CompletableFuture<Void> asyncFlushFeedback(Long interviewId) {
+        return logFailure(flushFeedback(interviewId), "피드백 일괄 생성 실패 - " + interviewId);
+    }
+
+    // 피드백 없이 저장된 답변을 모아 채움
+    public CompletableFuture<Void> flushFeedback(Long interviewId) {
 
-        interview.addQuestion(questionEntity);
-        interviewInfoRepository.save(interview);
+        String sessionId = feedbackBuffer.markFlushed(interviewId).orElse(null);
 
-        InterviewQuestionResponse data = InterviewQuestionMapper.INSTANCE.questionToResponse(
-            questionEntity);
-        signalUtil.sendSignal(
-            new Signal(sessionId, SignalType.FEEDBACK, objectMapper.writeValueAsString(data)));
+        List<InterviewQuestion> pending =
+            questionRepository.findAllByInterviewInfoIdAndFeedbackIsNullOrderByIdAsc(interviewId);
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return fillFeedback(findMemberId(interviewId), interviewId, sessionId, pending);
+    }
+
+    // 답변들의 피드백을 GPT 한 번 호출로 생성하고 한 번의 배치 UPDATE 로 저장
+    private CompletableFuture<Void> fillFeedback(Long memberId, Long interviewId,
+        String sessionId, List<InterviewQuestion> questions) {
+
+        // 1. 종료 처리와 늦은 답변이 겹쳐도 같은 답변은 한 쪽만 GPT 호출
+        List<InterviewQuestion> claimed = feedbackBuffer.claim(questions);
+        if (claimed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 2. 트랜잭션 없이 GPT 호출 (답변이 하나면 기존 방식으로 생성)
+        CompletableFuture<List<String>> feedbacks = claimed.size() == 1
+            ? requestFeedback(memberId, sessionId, claimed.get(0).getQuestion(),
+            claimed.get(0).getAnswer()).thenApply(List::of)
+            : requestBatchFeedback(memberId, interviewId, sessionId, claimed);
+
+        return feedbacks.thenAccept(generated -> {
+            List<InterviewQuestion> questionEntities = new ArrayList<>(claimed.size());
+            for (int i = 0; i < claimed.size(); i++) {
+                questionEntities.add(claimed.get(i).toBuilder()
+                    .feedback(generated.get(i))
+                    .build());
+            }
+
+            // 3. 짧은 쓰기 트랜잭션 : 면접 엔티티를 다시 읽지 않고 배치 UPDATE
+            List<InterviewQuestion> updated = new TransactionTemplate(transactionManager)
+                .execute(status -> questionBatchRepository.updateFeedbacks(questionEntities));
 
+            // 세션 정보가 만료된 경우 저장만 하고 결과는 면접 기록에서 확인
+            if (sessionId == null) {
+                return;
+            }
+
+            // 다른 서버에서 먼저 채운 답변은 이미 전송되었으므로 실제로 채운 답변만 전송
+            for (InterviewQuestion questionEntity : updated) {
+                sendSignal(sessionId, SignalType.FEEDBACK, new InterviewQuestionResponse(
+                    questionEntity.getId(), interviewId, questionEntity.getQuestion(),
+                    questionEntity.getAnswer(), questionEntity.getFeedback()));
+            }
+        }).whenComplete((result, e) -> feedbackBuffer.release(claimed));
+    }
+
+    // 번호를 붙인 질문/답변 전체를 보내고 JSON 배열로 받음
+    private CompletableFuture<List<String>> requestBatchFeedback(Long memberId, Long interviewId,
+        String sessionId, List<InterviewQuestion> questions) {
+
+        List<Message> gptMessage = new ArrayList<>(2);
+
+        gptMessage.add(new Message(UserType.SYSTEM, createFeedbackSystemMessage()));
+        gptMessage.add(new Message(UserType.USER, createBatchFeedbackUserMessage(questions)));
+
+        return callGpt(memberId, sessionId, gptMessage,
+            FEEDBACK_COMPLETION_TOKENS * questions.size()).thenCompose(response -> {
+            Optional<List<String>> feedbacks = parseBatchFeedback(
+                response.getChoices().get(0).getMessage().getContent(), questions.size());
+            if (feedbacks.isPresent()) {
+                return CompletableFuture.completedFuture(feedbacks.get());
+            }
+
+            // 형식이 맞지 않으면 답변별로 차례대로 다시 생성
+            log.warn("일괄 피드백 형식 오류, 답변별로 재생성 - " + interviewId);
+            CompletableFuture<List<String>> regenerated = CompletableFuture.completedFuture(
+                new ArrayList<>(questions.size()));
+            for (InterviewQuestion question : questions) {
+                regenerated = regenerated.thenCompose(
+                    list -> requestFeedback(memberId, sessionId, question.getQuestion(),
+                        question.getAnswer()).thenApply(feedback -> {
+                        list.add(feedback);
+                        return list;
+                    }));
+            }
+            return regenerated;
+        });
+    }
+
+    // [{"index":1,"feedback":"..."}, ...] 을 번호 순으로 변환 (누락이 있으면 empty)
+    private Optional<List<String>> parseBatchFeedback(String content, int size) {
+
+        int start = content == null ? -1 : content.indexOf('[');
+        int end = content == null ? -1 : content.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            return Optional.empty();
+        }
+
+        List<BatchFeedback> parsed;
+        try {
+            parsed = objectMapper.readValue(content.substring(start, end + 1),
+                new TypeReference<List<BatchFeedback>>() {
+                });
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+
+        String[] feedbacks = new String[size];
+        for (BatchFeedback item : parsed) {
+            if (item.index() >= 1 && item.index() <= size) {
+                feedbacks[item.index() - 1] = item.feedback();
+            }
+        }
+
+        for (String feedback : feedbacks) {
+            if (feedback == null || feedback.isBlank()) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(List.of(feedbacks));
+    }
+
+    private <T> T readInTransaction(TransactionCallback<T> callback) {
+
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(callback);
+    }
+
+    private void writeInTransaction(Consumer<TransactionStatus> action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(action);
     }
 
     private String createFeedbackSystemMessage() {
@@ -206,4 +562,28 @@ public class InterviewQuestionService {
 
     }
 
+    private String createBatchFeedbackUserMessage(List<InterviewQuestion> questions) {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("너는 아래에 번호와 함께 주어진 질문과 답변마다 얼마나 적합한지 안내문구 없이 평문으로 피드백해줘.")
+            .append("응답은 다른 설명 없이 [{\"index\":번호,\"feedback\":\"피드백\"}] 형식의 JSON 배열로만 해줘.");
+
+        for (int i = 0; i < questions.size(); i++) {
+            sb.append("<<<").append(i + 1).append(">>>")
+                .append("<<<질문>>>").append(questions.get(i).getQuestion())
+                .append("<<<답변>>>").append(questions.get(i).getAnswer());
+        }
+
+        return sb.toString();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record BatchFeedback(int index, String feedback) {
+
+    }
+
+    private record QuestionPrompt(String cacheKey, String position, List<Message> messages) {
+
+    }
+
 }
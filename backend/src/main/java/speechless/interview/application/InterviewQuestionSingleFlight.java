@@ -0,0 +1,112 @@
+package speechless.interview.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import speechless.interview.application.dto.request.QuestionRequest;
+
+// 같은 질문 생성 요청이 동시에 들어오면 진행 중인 요청 하나에 합침 (GPT 호출 1회)
+@Slf4j
+@Component
+public class InterviewQuestionSingleFlight {
+
+    private final InterviewQuestionService questionService;
+
+    private final Map<QuestionKey, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    // 클라이언트 멱등성 키 → 처리 결과 (완료 후에도 ttl 동안 유지)
+    private final Cache<String, CompletableFuture<Void>> idempotent;
+
+    private final Counter deduplicated;
+
+    public InterviewQuestionSingleFlight(InterviewQuestionService questionService,
+        @Value("${interview.question.idempotency-ttl:30s}") Duration idempotencyTtl,
+        MeterRegistry meterRegistry) {
+
+        this.questionService = questionService;
+        this.idempotent = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(idempotencyTtl)
+            .build();
+        this.deduplicated = Counter.builder("speechless.interview.question.deduplicated")
+            .register(meterRegistry);
+    }
+
+    public CompletableFuture<Void> createQuestion(Long memberId, QuestionRequest request,
+        String idempotencyKey) {
+
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return join(memberId, request);
+        }
+
+        // 1. 같은 멱등성 키로 최근에 받은 요청이면 그 결과를 그대로 사용
+        String cacheKey = memberId + ":" + idempotencyKey;
+
+        boolean[] created = {false};
+        CompletableFuture<Void> future = idempotent.get(cacheKey, key -> {
+            created[0] = true;
+            return join(memberId, request);
+        });
+
+        // 실패한 요청은 같은 키로 다시 시도할 수 있도록 제거
+        if (created[0]) {
+            future.whenComplete((result, e) -> {
+                if (e != null) {
+                    idempotent.asMap().remove(cacheKey, future);
+                }
+            });
+        } else {
+            deduplicated.increment();
+        }
+        return future;
+    }
+
+    // 2. 같은 (회원, 자기소개서, 세션, 질문 수) 로 진행 중인 요청이 있으면 그 요청에 합류
+    private CompletableFuture<Void> join(Long memberId, QuestionRequest request) {
+
+        QuestionKey key = new QuestionKey(memberId, request.statementId(), request.sessionId(),
+            request.questionCnt());
+
+        boolean[] created = {false};
+        CompletableFuture<Void> future = inFlight.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return submit(memberId, request);
+        });
+
+        if (created[0]) {
+            future.whenComplete((result, e) -> {
+                inFlight.remove(key, future);
+                if (e != null) {
+                    log.warn("면접 질문 생성 실패 - " + request.sessionId(), e);
+                }
+            });
+        } else {
+            deduplicated.increment();
+        }
+        return future;
+    }
+
+    private CompletableFuture<Void> submit(Long memberId, QuestionRequest request) {
+
+        try {
+            return questionService.asyncCreateQuestion(memberId, request);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private record QuestionKey(Long memberId, Long statementId, String sessionId,
+                               Integer questionCnt) {
+
+    }
+}
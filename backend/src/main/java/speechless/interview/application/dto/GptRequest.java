@@ -1,8 +1,26 @@
 package speechless.interview.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
-public record GptRequest(String model, List<Message> messages, Float temperature) {
+@JsonInclude(Include.NON_NULL)
+public record GptRequest(String model, List<Message> messages, Float temperature, Boolean stream,
+                         @JsonProperty("stream_options") StreamOptions streamOptions) {
+
+    public GptRequest(String model, List<Message> messages, Float temperature) {
+        this(model, messages, temperature, null, null);
+    }
+
+    // SSE 스트리밍 요청으로 변환 (토큰 사용량도 함께 수신)
+    public GptRequest toStream() {
+        return new GptRequest(model, messages, temperature, true, new StreamOptions(true));
+    }
+
+    public record StreamOptions(@JsonProperty("include_usage") Boolean includeUsage) {
+
+    }
 
     @Override
     public String toString() {
@@ -13,4 +13,6 @@ import lombok.NoArgsConstructor;
 public class GptResponse {
 
     private List<Choice> choices;
+
+    private Usage usage;
 }
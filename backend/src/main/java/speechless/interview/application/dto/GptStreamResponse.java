@@ -0,0 +1,52 @@
+package speechless.interview.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class GptStreamResponse {
+
+    private List<StreamChoice> choices;
+
+    // stream_options.include_usage 요청 시 마지막 청크에만 포함
+    private Usage usage;
+
+    public String getContent() {
+
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return null;
+        }
+
+        return choices.get(0).getDelta().getContent();
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class StreamChoice {
+
+        private int index;
+
+        private Delta delta;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Delta {
+
+        private String content;
+    }
+}
@@ -0,0 +1,23 @@
+package speechless.interview.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class Usage {
+
+    @JsonProperty("prompt_tokens")
+    private int promptTokens;
+
+    @JsonProperty("completion_tokens")
+    private int completionTokens;
+
+    @JsonProperty("total_tokens")
+    private int totalTokens;
+}
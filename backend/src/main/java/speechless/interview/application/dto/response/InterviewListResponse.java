@@ -3,9 +3,10 @@ package speechless.interview.application.dto.response;
 import java.util.List;
 
 public record InterviewListResponse(
-    List<InterviewInfoResponse> interviewInfos,
-    int currentPage,
-    int totalPage,
-    long totalCount) {
+    List<InterviewSummaryResponse> interviewInfos,
+    Integer currentPage,
+    Integer totalPage,
+    Long totalCount,
+    Long nextCursor) {
 
 }
@@ -0,0 +1,14 @@
+package speechless.interview.application.dto.response;
+
+import java.time.LocalDateTime;
+
+// 목록/월별 조회용 (그래프 문자열, 질문 목록 제외)
+public record InterviewSummaryResponse(
+    Long id,
+    String topic,
+    Integer pronunciationScore,
+    Integer faceScore,
+    LocalDateTime startTime,
+    LocalDateTime endTime) {
+
+}
@@ -0,0 +1,30 @@
+package speechless.interview.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gpt.scheduler")
+public class GptSchedulerProperties {
+
+    // 분당 요청 수 한도 (RPM)
+    private long requestsPerMinute = 500;
+
+    // 분당 토큰 수 한도 (TPM, 요청 전 추정치로 차감)
+    private long tokensPerMinute = 40_000;
+
+    // 동시에 진행하는 GPT 호출 수
+    private int maxConcurrency = 10;
+
+    // 회원당 대기 가능한 요청 수 (초과 시 거절)
+    private int maxQueuedPerMember = 20;
+
+    // 429 응답 시 재시도 횟수
+    private int maxRetries = 2;
+
+    // Retry-After 헤더가 없을 때 대기 시간
+    private Duration defaultRetryAfter = Duration.ofSeconds(1);
+}
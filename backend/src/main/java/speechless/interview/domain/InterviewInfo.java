@@ -24,6 +24,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
 import speechless.common.entity.BaseTimeEntity;
 import speechless.member.domain.Member;
@@ -77,6 +78,7 @@ public class InterviewInfo extends BaseTimeEntity {
 
     @OneToMany(mappedBy = "interviewInfo", fetch = FetchType.LAZY,
         cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<InterviewQuestion> questions = new ArrayList<>();
 
@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "interview_question")
+@Table(name = "interview_preset")
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
@@ -28,7 +28,14 @@ public class InterviewPreset {
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "question")
+    // NULL 이면 모든 직무 공통 질문
+    @Column(name = "position", length = 50)
+    private String position;
+
+    @Column(name = "topic", length = 50)
+    private String topic;
+
+    @Column(name = "question", length = 200)
     private String question;
 
 }
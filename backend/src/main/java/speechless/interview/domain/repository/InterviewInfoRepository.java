@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import speechless.interview.application.dto.response.InterviewSummaryResponse;
 import speechless.interview.domain.InterviewInfo;
 import speechless.interview.exception.InterviewNotFoundException;
 import speechless.member.domain.Member;
@@ -15,17 +16,52 @@ public interface InterviewInfoRepository extends JpaRepository<InterviewInfo, Lo
 
     List<InterviewInfo> findAllByMember(Member member);
 
-    @Query("SELECT i FROM InterviewInfo i "
-        + "LEFT JOIN i.questions "
+    // 면접 리포트 : 질문/답변/피드백까지 한 번에 조회
+    @Query("SELECT DISTINCT i FROM InterviewInfo i "
+        + "LEFT JOIN FETCH i.questions "
         + "WHERE i.id = :id "
         + "AND i.isCompletion = true "
-        + "AND i.member = :member ")
-    Optional<InterviewInfo> findByIdAndMember(Long id, Member member);
+        + "AND i.member.id = :memberId ")
+    Optional<InterviewInfo> findByIdAndMemberId(Long id, Long memberId);
 
-    Page<InterviewInfo> findAllByMemberAndIsCompletionIsTrue(Member member, Pageable pageable);
+    boolean existsByIdAndMemberId(Long id, Long memberId);
 
-    List<InterviewInfo> findAllByMemberAndStartTimeBetweenAndIsCompletionIsTrue(
-        Member member, LocalDateTime startDate, LocalDateTime endDate);
+    // GPT 대기열을 회원 단위로 나누기 위해 회원 ID 만 조회
+    @Query("SELECT i.member.id FROM InterviewInfo i WHERE i.id = :id")
+    Optional<Long> findMemberIdById(Long id);
+
+    String SUMMARY = "SELECT new speechless.interview.application.dto.response.InterviewSummaryResponse("
+        + "i.id, i.topic, i.pronunciationScore, i.faceScore, i.startTime, i.endTime) "
+        + "FROM InterviewInfo i ";
+
+    @Query(value = SUMMARY
+        + "WHERE i.member = :member "
+        + "AND i.isCompletion = true",
+        countQuery = "SELECT COUNT(i) FROM InterviewInfo i "
+            + "WHERE i.member = :member "
+            + "AND i.isCompletion = true")
+    Page<InterviewSummaryResponse> findSummariesByMember(Member member, Pageable pageable);
+
+    // 커서(keyset) 페이지네이션 : 카운트 쿼리 없이 id 인덱스로 바로 탐색
+    @Query(SUMMARY
+        + "WHERE i.member = :member "
+        + "AND i.isCompletion = true "
+        + "AND i.id < :cursor "
+        + "ORDER BY i.id DESC")
+    List<InterviewSummaryResponse> findSummariesByMemberBefore(
+        Member member, Long cursor, Pageable pageable);
+
+    long countByMemberAndIsCompletionIsTrue(Member member);
+
+    // [start, end) 구간 조회
+    @Query(SUMMARY
+        + "WHERE i.member = :member "
+        + "AND i.isCompletion = true "
+        + "AND i.startTime >= :start "
+        + "AND i.startTime < :end "
+        + "ORDER BY i.startTime")
+    List<InterviewSummaryResponse> findMonthlySummariesByMember(
+        Member member, LocalDateTime start, LocalDateTime end);
 
     default InterviewInfo findByInterviewId(Long id) {
         return findById(id).orElseThrow(InterviewNotFoundException::new);
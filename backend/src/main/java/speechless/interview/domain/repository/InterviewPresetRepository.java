@@ -0,0 +1,8 @@
+package speechless.interview.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import speechless.interview.domain.InterviewPreset;
+
+public interface InterviewPresetRepository extends JpaRepository<InterviewPreset, Long> {
+
+}
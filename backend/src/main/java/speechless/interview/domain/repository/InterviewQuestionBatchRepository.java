@@ -0,0 +1,42 @@
+package speechless.interview.domain.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import speechless.interview.domain.InterviewQuestion;
+
+// 면접 종료 시 생성한 피드백을 엔티티를 다시 읽지 않고 JDBC 배치로 한 번에 저장
+@Repository
+@RequiredArgsConstructor
+public class InterviewQuestionBatchRepository {
+
+    // 이미 채워진 피드백은 덮어쓰지 않음 (종료 직후 도착한 답변을 두 번 처리한 경우)
+    private static final String UPDATE_FEEDBACK_SQL =
+        "UPDATE interview_question SET feedback = ? WHERE id = ? AND feedback IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 실제로 채운 답변만 반환 (드라이버가 건수를 알려주지 않는 경우는 채운 것으로 봄)
+    public List<InterviewQuestion> updateFeedbacks(List<InterviewQuestion> questions) {
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_FEEDBACK_SQL, questions,
+            questions.size(), (ps, question) -> {
+                ps.setString(1, question.getFeedback());
+                ps.setLong(2, question.getId());
+            });
+
+        List<InterviewQuestion> updated = new ArrayList<>(questions.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count != 0) {
+                    updated.add(questions.get(index));
+                }
+                index++;
+            }
+        }
+        return updated;
+    }
+}
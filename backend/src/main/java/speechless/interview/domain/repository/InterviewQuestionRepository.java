@@ -1,8 +1,11 @@
 package speechless.interview.domain.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import speechless.interview.domain.InterviewQuestion;
 
 public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long> {
 
+    // 면접 종료 시 피드백을 채울 답변
+    List<InterviewQuestion> findAllByInterviewInfoIdAndFeedbackIsNullOrderByIdAsc(Long interviewId);
 }
@@ -0,0 +1,14 @@
+package speechless.interview.exception;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import speechless.common.error.ErrorCode;
+import speechless.common.error.SpeechlessException;
+
+public class GptQueueFullException extends SpeechlessException {
+
+    public GptQueueFullException() {
+        super(new ErrorCode(TOO_MANY_REQUESTS, "처리 대기 중인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요"));
+    }
+
+}
@@ -0,0 +1,21 @@
+package speechless.interview.exception;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import java.time.Duration;
+import lombok.Getter;
+import speechless.common.error.ErrorCode;
+import speechless.common.error.SpeechlessException;
+
+@Getter
+public class GptRateLimitException extends SpeechlessException {
+
+    // 응답의 Retry-After (없으면 null)
+    private final Duration retryAfter;
+
+    public GptRateLimitException(Duration retryAfter) {
+        super(new ErrorCode(TOO_MANY_REQUESTS, "GPT API 요청 한도를 초과했습니다"));
+        this.retryAfter = retryAfter;
+    }
+
+}
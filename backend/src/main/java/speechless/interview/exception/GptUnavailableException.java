@@ -0,0 +1,14 @@
+package speechless.interview.exception;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+import speechless.common.error.ErrorCode;
+import speechless.common.error.SpeechlessException;
+
+public class GptUnavailableException extends SpeechlessException {
+
+    public GptUnavailableException() {
+        super(new ErrorCode(SERVICE_UNAVAILABLE, "GPT 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요"));
+    }
+
+}
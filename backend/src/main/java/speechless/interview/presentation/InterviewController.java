@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,9 +18,11 @@ import speechless.auth.dto.AuthCredentials;
 import speechless.auth.presentation.Auth;
 import speechless.interview.application.InterviewInfoService;
 import speechless.interview.application.InterviewQuestionService;
+import speechless.interview.application.InterviewQuestionSingleFlight;
 import speechless.interview.application.dto.request.QuestionRequest;
 import speechless.interview.application.dto.response.InterviewInfoResponse;
 import speechless.interview.application.dto.response.InterviewListResponse;
+import speechless.interview.application.dto.response.InterviewSummaryResponse;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,12 +31,24 @@ public class InterviewController {
 
     private final InterviewInfoService interviewService;
     private final InterviewQuestionService questionService;
+    private final InterviewQuestionSingleFlight questionSingleFlight;
 
     @GetMapping("")
     public ResponseEntity<InterviewListResponse> getInterviews(
         @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
-        @RequestParam Integer pageSize, @RequestParam Integer pageNum
+        @RequestParam Integer pageSize,
+        @RequestParam(required = false) Integer pageNum,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "false") boolean withCount
     ) throws Exception {
+
+        // pageNum 이 없으면 커서 기반 조회
+        if (pageNum == null) {
+            return new ResponseEntity<>(
+                interviewService.getInterviewInfos(authCredentials, pageSize, cursor, withCount),
+                HttpStatus.OK);
+        }
+
         return new ResponseEntity<>(
             interviewService.getInterviewInfos(authCredentials, pageSize, pageNum),
             HttpStatus.OK);
@@ -51,14 +66,26 @@ public class InterviewController {
     @PostMapping("/question")
     public ResponseEntity<String> createQuestion(
         @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody @Validated QuestionRequest request
     ) throws Exception {
-        questionService.asyncCreateQuestion(authCredentials.id(), request);
+        questionSingleFlight.createQuestion(authCredentials.id(), request, idempotencyKey);
         return new ResponseEntity<>("OK", HttpStatus.CREATED);
     }
 
+    // 모아 둔 답변의 피드백을 한 번에 생성 (결과는 FEEDBACK 시그널로 전송)
+    @PostMapping("/{id}/feedback")
+    public ResponseEntity<Void> flushFeedback(
+        @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
+        @PathVariable("id") Long id
+    ) throws Exception {
+        interviewService.validateOwner(authCredentials, id);
+        questionService.asyncFlushFeedback(id);
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
     @GetMapping("/monthly")
-    public ResponseEntity<List<InterviewInfoResponse>> getMonthlyInterviews(
+    public ResponseEntity<List<InterviewSummaryResponse>> getMonthlyInterviews(
         @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
         @RequestParam("year") Integer year, @RequestParam("month") Integer month
     ) throws Exception {
@@ -1,31 +1,63 @@
 package speechless.interview.utils;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import speechless.interview.application.dto.GptRequest;
 import speechless.interview.application.dto.GptResponse;
+import speechless.interview.application.dto.GptStreamResponse;
+import speechless.interview.application.dto.Usage;
 import speechless.interview.exception.GptBadRequestException;
+import speechless.interview.exception.GptRateLimitException;
 import speechless.interview.exception.GptServerErrorException;
 
 @Component
 public class GptUtil {
 
-    private static String apiKey;
+    private static final String COMPLETIONS_URI = "/chat/completions";
 
-    public static GptResponse call(GptRequest request) throws Exception {
+    private static final String DATA_PREFIX = "data:";
 
-        RestClient client = RestClient.create();
+    private static final String DONE = "[DONE]";
+
+    private static final String TOKENS_METRIC = "speechless.gpt.tokens";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RestClient client;
+
+    private final MeterRegistry meterRegistry;
+
+    public GptUtil(@Qualifier("gptRestClient") RestClient client, MeterRegistry meterRegistry) {
+        this.client = client;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public GptResponse call(GptRequest request) throws Exception {
 
         // TODO : Exception Class 구체화
-        return client.post()
-            .uri("https://api.openai.com/v1/chat/completions")
+        GptResponse response = client.post()
+            .uri(COMPLETIONS_URI)
             .contentType(MediaType.APPLICATION_JSON)
-            .header("Authorization", "Bearer " + apiKey)
             .body(request)
             .retrieve()
+            .onStatus(status -> status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS), (req, res) -> {
+                throw new GptRateLimitException(retryAfter(res.getHeaders()));
+            })
             .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
                 throw new GptBadRequestException();
             })
@@ -33,11 +65,121 @@ public class GptUtil {
                 throw new GptServerErrorException();
             })
             .body(GptResponse.class);
+
+        if (response != null) {
+            recordUsage(request.model(), response.getUsage());
+        }
+        return response;
+    }
+
+    // stream=true 로 호출하고 개행 단위로 완성된 줄을 즉시 전달
+    public void stream(GptRequest request, Consumer<String> lineConsumer) throws Exception {
+
+        client.post()
+            .uri(COMPLETIONS_URI)
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .body(request.toStream())
+            .exchange((req, res) -> {
+                if (res.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                    throw new GptRateLimitException(retryAfter(res.getHeaders()));
+                }
+                if (res.getStatusCode().is4xxClientError()) {
+                    throw new GptBadRequestException();
+                }
+                if (res.getStatusCode().is5xxServerError()) {
+                    throw new GptServerErrorException();
+                }
+
+                readStream(request.model(), res.getBody(), lineConsumer);
+                return null;
+            });
+    }
+
+    // Retry-After 헤더 (초 단위) 를 읽고, 없거나 형식이 다르면 null
+    private Duration retryAfter(HttpHeaders headers) {
+
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Duration.ofMillis((long) (Double.parseDouble(value.trim()) * 1000));
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    @Value("${api-keys.gpt}")
-    private void setApiKey(String key) {
-        apiKey = key;
+    private void readStream(String model, InputStream body, Consumer<String> lineConsumer)
+        throws IOException {
+
+        StringBuilder line = new StringBuilder();
+
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(body, StandardCharsets.UTF_8))) {
+
+            String event;
+            while ((event = reader.readLine()) != null) {
+
+                if (!event.startsWith(DATA_PREFIX)) {
+                    continue;
+                }
+
+                String data = event.substring(DATA_PREFIX.length()).trim();
+                if (DONE.equals(data)) {
+                    break;
+                }
+
+                GptStreamResponse chunk = objectMapper.readValue(data, GptStreamResponse.class);
+                recordUsage(model, chunk.getUsage());
+
+                String content = chunk.getContent();
+                if (content == null) {
+                    continue;
+                }
+
+                for (int i = 0; i < content.length(); i++) {
+                    char c = content.charAt(i);
+                    if (c == '\n') {
+                        flushLine(line, lineConsumer);
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+
+        flushLine(line, lineConsumer);
+    }
+
+    // 응답의 usage 를 모델별 prompt/completion 토큰 수로 누적
+    private void recordUsage(String model, Usage usage) {
+
+        if (usage == null) {
+            return;
+        }
+
+        Counter.builder(TOKENS_METRIC)
+            .tag("model", model)
+            .tag("type", "prompt")
+            .register(meterRegistry)
+            .increment(usage.getPromptTokens());
+        Counter.builder(TOKENS_METRIC)
+            .tag("model", model)
+            .tag("type", "completion")
+            .register(meterRegistry)
+            .increment(usage.getCompletionTokens());
+    }
+
+    private void flushLine(StringBuilder line, Consumer<String> lineConsumer) {
+
+        String completed = line.toString().trim();
+        line.setLength(0);
+
+        if (!completed.isEmpty()) {
+            lineConsumer.accept(completed);
+        }
     }
 
 }
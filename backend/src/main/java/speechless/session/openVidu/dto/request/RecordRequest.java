@@ -2,7 +2,9 @@ package speechless.session.openVidu.dto.request;
 
 public record RecordRequest(
     Long interviewId,
-    String question
+    String question,
+    // 면접 종료 시 한 번에 피드백 생성 (생략 시 interview.feedback.deferred 설정값)
+    Boolean deferFeedback
 ) {
 
 }
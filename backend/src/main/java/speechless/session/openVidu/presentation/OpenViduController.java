@@ -17,8 +17,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.HashMap;
 import java.util.Map;
 import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -32,10 +34,12 @@ import org.springframework.web.bind.annotation.RestController;
 import speechless.auth.dto.AuthCredentials;
 import speechless.auth.presentation.Auth;
 import speechless.interview.application.InterviewInfoService;
+import speechless.interview.application.InterviewQuestionService;
 import speechless.session.openVidu.dto.OpenviduCreateRequest;
 import speechless.session.openVidu.dto.OpenviduCreateResponse;
 import speechless.session.openVidu.dto.OpenviduDeleteRequest;
 
+@Slf4j
 @CrossOrigin(origins = "*")
 @RestController
 @RequestMapping("/openvidu/sessions")
@@ -52,6 +56,9 @@ public class OpenViduController {
     @Autowired
     private InterviewInfoService infoService;
 
+    @Autowired
+    private InterviewQuestionService questionService;
+
     @PostConstruct
     public void init() {
         this.openvidu = new OpenVidu(OPENVIDU_URL, OPENVIDU_SECRET);
@@ -90,6 +97,16 @@ public class OpenViduController {
         Session session = openvidu.getActiveSession(sessionId);
         session.close();
         infoService.updateInterviewInfo(request);
+
+        // 종료 전에 피드백 생성을 요청하지 않은 경우 모아 둔 답변 처리
+        if (request.getInterviewId() != null) {
+            try {
+                questionService.asyncFlushFeedback(request.getInterviewId());
+            } catch (TaskRejectedException e) {
+                // 답변은 저장되어 있으므로 피드백 생성 API 로 다시 요청 가능
+                log.warn("피드백 생성 대기열 초과 - " + request.getInterviewId());
+            }
+        }
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -1,20 +1,11 @@
 package speechless.session.openVidu.presentation;
 
-import static speechless.session.speechToText.utils.SttUtil.Stt;
-import static speechless.session.storage.utils.FileUtil.deleteFile;
-import static speechless.session.storage.utils.FileUtil.uploadFile;
-import static speechless.session.storage.utils.RecordingUtil.getFileName;
-import static speechless.session.storage.utils.RecordingUtil.getSessionId;
-import static speechless.session.storage.utils.RecordingUtil.unzipFile;
-
 import io.openvidu.java.client.OpenVidu;
 import io.openvidu.java.client.OpenViduHttpException;
 import io.openvidu.java.client.OpenViduJavaClientException;
 import io.openvidu.java.client.Recording;
 import io.openvidu.java.client.Recording.OutputMode;
 import io.openvidu.java.client.RecordingProperties;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.PostConstruct;
@@ -22,15 +13,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import speechless.interview.application.InterviewQuestionService;
 import speechless.session.openVidu.dto.request.RecordRequest;
-import speechless.session.speechToText.dto.SttRequest;
-import speechless.session.speechToText.dto.SttResponse;
+import speechless.session.recording.application.RecordingJob;
+import speechless.session.recording.application.RecordingPipeline;
+import speechless.session.recording.dto.RecordingJobResponse;
+import speechless.session.recording.exception.RecordingJobNotFoundException;
 
 @RequiredArgsConstructor
 @RestController
@@ -47,7 +40,7 @@ public class RecordController {
 
     private OpenVidu openVidu;
 
-    private final InterviewQuestionService interviewQuestionService;
+    private final RecordingPipeline recordingPipeline;
 
     @PostConstruct
     public void init() {
@@ -77,32 +70,32 @@ public class RecordController {
     ) throws Exception {
 
         try {
-            Recording recording = this.openVidu.stopRecording(recordingId);
+            // 파이프라인이 가득 차 429 를 받은 뒤 같은 recordingId 로 다시 요청하면
+            // 이미 멈춘 녹음을 그대로 다시 제출 (녹음은 거절 시에도 지우지 않음)
+            Recording recording = this.openVidu.getRecording(recordingId);
+            if (recording.getStatus() == Recording.Status.started
+                || recording.getStatus() == Recording.Status.starting) {
+                recording = this.openVidu.stopRecording(recordingId);
+            }
             this.sessionRecordings.remove(recording.getSessionId());
-            Path sourcePath = Paths.get(
-                "/opt/openvidu/recordings/" + recordingId + "/" + recordingId + ".zip");
-            Path targetPath = Paths.get("/opt/openvidu/recordings/" + recordingId);
-            unzipFile(sourcePath, targetPath);
-            String fileName = getFileName(recordingId);
-            String sessionId = getSessionId(recordingId);
-
-            uploadFile(fileName,
-                "/opt/openvidu/recordings/" + recordingId + "/" + fileName);
-
-            SttRequest request = new SttRequest(fileName, "ko-KR", "sync");
-            SttResponse response = Stt(request);
-
-            interviewQuestionService.asyncCreateFeedback(recordRequest.interviewId(),
-                sessionId, recordRequest.question(), response.getText());
 
-            this.openVidu.deleteRecording(recordingId);
-            deleteFile(fileName);
-            return new ResponseEntity<>(response, HttpStatus.OK);
+            // 후처리는 파이프라인에서 진행하고 작업 ID만 즉시 반환
+            RecordingJob job = recordingPipeline.submit(recordingId, recordRequest);
+            return new ResponseEntity<>(RecordingJobResponse.from(job), HttpStatus.ACCEPTED);
         } catch (OpenViduJavaClientException | OpenViduHttpException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
 
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<RecordingJobResponse> getRecordingJob(
+        @PathVariable("jobId") String jobId) {
+
+        RecordingJob job = recordingPipeline.getJob(jobId)
+            .orElseThrow(RecordingJobNotFoundException::new);
+        return new ResponseEntity<>(RecordingJobResponse.from(job), HttpStatus.OK);
+    }
+
     @PostMapping("/send")
     public ResponseEntity<Void> sendFinalResult(@RequestBody Map<String, Object> params) {
         // 받은 값 저장
@@ -1,12 +1,16 @@
 package speechless.session.openVidu.utils;
 
-import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import speechless.common.config.AsyncConfig;
 import speechless.session.openVidu.dto.Signal;
 import speechless.session.openVidu.exception.SignalBadRequestException;
 
@@ -14,23 +18,45 @@ import speechless.session.openVidu.exception.SignalBadRequestException;
 @Component
 public class SignalUtil {
 
-    @Value("${OPENVIDU_URL}")
-    private String OPENVIDU_URL;
+    private final RestClient client;
 
-    @Value("${OPENVIDU_SECRET}")
-    private String OPENVIDU_SECRET;
+    private final Executor executor;
+
+    // 세션별 마지막 전송 작업 (같은 세션의 시그널은 보낸 순서대로 전달)
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public SignalUtil(@Qualifier("openviduRestClient") RestClient client,
+        @Qualifier(AsyncConfig.SIGNAL_EXECUTOR) Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    // 시그널 전용 스레드 풀에서 전송해 GPT 응답 처리가 OpenVidu 지연에 묶이지 않도록 함
+    public CompletableFuture<Void> sendSignalAsync(Signal params) {
+
+        CompletableFuture<Void> next = tails.compute(params.session(), (session, tail) ->
+            (tail == null ? CompletableFuture.<Void>completedFuture(null) : tail)
+                .handle((result, e) -> null)
+                .thenRunAsync(() -> sendSignal(params), executor));
+
+        next.whenComplete((result, e) -> {
+            tails.remove(params.session(), next);
+            if (e != null) {
+                log.warn("시그널 전송 실패 - " + params.session() + " " + params.type(), e);
+            }
+        });
+        return next;
+    }
 
     public void sendSignal(Signal params) {
-        RestClient client = RestClient.create();
         client.post()
-            .uri(OPENVIDU_URL + "openvidu/api/signal")
-            .header("Authorization",
-                "Basic " + Base64.getEncoder().encodeToString(("OPENVIDUAPP:" + OPENVIDU_SECRET).getBytes()))
+            .uri("/openvidu/api/signal")
             .contentType(MediaType.APPLICATION_JSON)
             .body(params)
             .retrieve()
             .onStatus(HttpStatusCode::is4xxClientError, (req, res) -> {
                 throw new SignalBadRequestException();
-            });
+            })
+            .toBodilessEntity();
     }
 }
@@ -1,6 +1,6 @@
 package speechless.session.pronounce.utils;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -12,16 +12,19 @@ import speechless.session.pronounce.exception.PronounceException;
 @Component
 public class PronounceUtil {
 
-    private static String apiKey;
-    private static final String pronounceUri = "http://aiopen.etri.re.kr:8000/WiseASR/PronunciationKor";
+    private static final String pronounceUri = "/WiseASR/PronunciationKor";
 
-    public static PronounceResponse pronounce(PronounceRequest request) {
-        RestClient client = RestClient.create();
+    private final RestClient client;
+
+    public PronounceUtil(@Qualifier("pronounceRestClient") RestClient client) {
+        this.client = client;
+    }
+
+    public PronounceResponse pronounce(PronounceRequest request) {
         try {
             return client.post()
                 .uri(pronounceUri)
                 .contentType(MediaType.APPLICATION_JSON)
-                .header("Authorization", apiKey)
                 .body(request)
                 .retrieve()
                 .body(PronounceResponse.class);
@@ -29,9 +32,4 @@ public class PronounceUtil {
             throw new PronounceException();
         }
     }
-
-    @Value("${api-keys.pronounce}")
-    private void setApiKey(String key) {
-        apiKey = key;
-    }
 }
@@ -0,0 +1,38 @@
+package speechless.session.recording.application;
+
+import lombok.Getter;
+import speechless.session.speechToText.dto.SttResponse;
+
+// 녹음 처리 작업 상태 (단계별 스레드에서 갱신)
+@Getter
+public class RecordingJob {
+
+    private final String jobId;
+
+    private final String recordingId;
+
+    private volatile RecordingJobStatus status = RecordingJobStatus.QUEUED;
+
+    private volatile SttResponse transcript;
+
+    private volatile String message;
+
+    public RecordingJob(String jobId, String recordingId) {
+        this.jobId = jobId;
+        this.recordingId = recordingId;
+    }
+
+    public void moveTo(RecordingJobStatus status) {
+        this.status = status;
+    }
+
+    public void complete(SttResponse transcript) {
+        this.transcript = transcript;
+        this.status = RecordingJobStatus.DONE;
+    }
+
+    public void fail(String message) {
+        this.message = message;
+        this.status = RecordingJobStatus.FAILED;
+    }
+}
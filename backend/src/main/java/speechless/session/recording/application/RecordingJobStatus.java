@@ -0,0 +1,5 @@
+package speechless.session.recording.application;
+
+public enum RecordingJobStatus {
+    QUEUED, UNZIPPING, UPLOADING, TRANSCRIBING, DONE, FAILED
+}
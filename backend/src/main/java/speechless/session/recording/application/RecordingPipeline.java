@@ -0,0 +1,294 @@
+package speechless.session.recording.application;
+
+import static speechless.session.storage.utils.RecordingUtil.readManifest;
+import static speechless.session.storage.utils.RecordingUtil.uploadRecording;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.openvidu.java.client.OpenVidu;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import speechless.common.error.SpeechlessException;
+import speechless.common.metrics.ExecutorMetrics;
+import speechless.interview.application.InterviewQuestionService;
+import speechless.session.openVidu.dto.request.RecordRequest;
+import speechless.session.recording.config.RecordingPipelineProperties;
+import speechless.session.recording.exception.RecordingPipelineBusyException;
+import speechless.session.speechToText.dto.SttRequest;
+import speechless.session.speechToText.dto.SttResponse;
+import speechless.session.speechToText.utils.SttUtil;
+import speechless.session.storage.application.StorageService;
+import speechless.session.storage.dto.RecordingManifest;
+
+// 녹음 종료 후 처리 (압축 해제 → 업로드 → STT → 피드백 → 정리) 를 단계별 스레드 풀에서 수행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordingPipeline {
+
+    private static final String RECORDING_PATH = "/opt/openvidu/recordings/";
+
+    @Value("${OPENVIDU_URL}")
+    private String OPENVIDU_URL;
+
+    @Value("${OPENVIDU_SECRET}")
+    private String OPENVIDU_SECRET;
+
+    @Value("${interview.feedback.deferred:false}")
+    private boolean deferFeedback;
+
+    private OpenVidu openVidu;
+
+    private Cache<String, RecordingJob> jobs;
+
+    private final Map<Stage, ThreadPoolTaskExecutor> executors = new EnumMap<>(Stage.class);
+
+    private final RecordingPipelineProperties properties;
+
+    private final InterviewQuestionService interviewQuestionService;
+
+    private final SttUtil sttUtil;
+
+    private final StorageService storageService;
+
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+
+        this.openVidu = new OpenVidu(OPENVIDU_URL, OPENVIDU_SECRET);
+        this.jobs = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(properties.getJobTtl())
+            .build();
+
+        for (Stage stage : Stage.values()) {
+            executors.put(stage, createExecutor(stage, stageProperties(stage)));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executors.values().forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    public RecordingJob submit(String recordingId, RecordRequest request) {
+
+        RecordingJob job = new RecordingJob(UUID.randomUUID().toString(), recordingId);
+
+        CompletableFuture<RecordedFile> uploaded;
+        try {
+            uploaded = CompletableFuture
+                .supplyAsync(() -> runStage(Stage.UNZIP, job, () -> unzip(recordingId)),
+                    executors.get(Stage.UNZIP))
+                .thenApplyAsync(file -> runStage(Stage.UPLOAD, job, () -> upload(file)),
+                    executors.get(Stage.UPLOAD));
+        } catch (TaskRejectedException e) {
+            // 같은 recordingId 로 다시 요청할 수 있도록 녹음은 지우지 않음
+            throw new RecordingPipelineBusyException();
+        }
+
+        jobs.put(job.getJobId(), job);
+
+        uploaded
+            .thenApplyAsync(file -> runStage(Stage.STT, job, () -> transcribe(file)),
+                executors.get(Stage.STT))
+            .whenComplete((transcript, e) -> {
+                RecordedFile file = uploaded.isCompletedExceptionally() ? null : uploaded.join();
+
+                if (e == null) {
+                    job.complete(transcript);
+                    submitFeedback(job, file, request, transcript);
+                } else {
+                    log.error("녹음 처리 실패 - " + recordingId, e);
+                    job.fail(failureMessage(e));
+                }
+
+                submitCleanup(recordingId, file);
+            });
+
+        return job;
+    }
+
+    public Optional<RecordingJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    // 압축을 풀지 않고 매니페스트만 읽음
+    private RecordedFile unzip(String recordingId) {
+
+        RecordingManifest manifest = readManifest(zipPath(recordingId), recordingId);
+        return new RecordedFile(recordingId, manifest.sessionId(), manifest.fileName());
+    }
+
+    // ZIP 내부 음성 파일을 스토리지로 바로 전송
+    private RecordedFile upload(RecordedFile file) {
+
+        uploadRecording(zipPath(file.recordingId()), file.fileName(), storageService);
+        return file;
+    }
+
+    private Path zipPath(String recordingId) {
+        return Paths.get(RECORDING_PATH + recordingId + "/" + recordingId + ".zip");
+    }
+
+    private SttResponse transcribe(RecordedFile file) {
+        return sttUtil.Stt(new SttRequest(file.fileName(), "ko-KR", "sync"));
+    }
+
+    private void submitFeedback(RecordingJob job, RecordedFile file, RecordRequest request,
+        SttResponse transcript) {
+
+        try {
+            // 피드백 단계 풀 크기만큼만 GPT 에 넘기도록 완료까지 기다림 (GPT 작업 풀과 별개)
+            executors.get(Stage.FEEDBACK).execute(() -> runStage(Stage.FEEDBACK, job, () -> {
+                if (isDeferred(request)) {
+                    return interviewQuestionService.deferFeedback(request.interviewId(),
+                        file.sessionId(), request.question(), transcript.getText()).join();
+                }
+                return interviewQuestionService.createFeedback(request.interviewId(),
+                    file.sessionId(), request.question(), transcript.getText()).join();
+            }));
+        } catch (TaskRejectedException e) {
+            log.warn("피드백 대기열 초과 - " + job.getRecordingId());
+        }
+    }
+
+    private boolean isDeferred(RecordRequest request) {
+        return request.deferFeedback() != null ? request.deferFeedback() : deferFeedback;
+    }
+
+    private void submitCleanup(String recordingId, RecordedFile file) {
+
+        try {
+            executors.get(Stage.CLEANUP).execute(() -> runStage(Stage.CLEANUP, null, () -> {
+                openVidu.deleteRecording(recordingId);
+                if (file != null) {
+                    storageService.delete(file.fileName());
+                }
+                return null;
+            }));
+        } catch (TaskRejectedException e) {
+            log.warn("정리 대기열 초과 - " + recordingId);
+        }
+    }
+
+    // 단계 실행 및 단계별 소요 시간 기록
+    private <T> T runStage(Stage stage, RecordingJob job, StageTask<T> task) {
+
+        if (job != null && stage.status != null) {
+            job.moveTo(stage.status);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return task.run();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } catch (Exception e) {
+            outcome = "error";
+            throw new IllegalStateException(e);
+        } finally {
+            sample.stop(Timer.builder("recording.pipeline.stage")
+                .tag("stage", stage.tag)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    private String failureMessage(Throwable e) {
+
+        Throwable cause = e instanceof CompletionException && e.getCause() != null
+            ? e.getCause() : e;
+
+        if (cause instanceof SpeechlessException exception) {
+            return exception.getErrorCode().message();
+        }
+        if (cause instanceof TaskRejectedException) {
+            return new RecordingPipelineBusyException().getErrorCode().message();
+        }
+        return "녹음 처리 중 오류가 발생했습니다";
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(Stage stage,
+        RecordingPipelineProperties.Stage config) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(config.getConcurrency());
+        executor.setMaxPoolSize(config.getConcurrency());
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.setThreadNamePrefix("SPEECHLESS-RECORDING-" + stage.name() + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        ExecutorMetrics.monitor(executor, "recording-" + stage.tag, meterRegistry);
+
+        Gauge.builder("recording.pipeline.queue", executor,
+                e -> e.getThreadPoolExecutor().getQueue().size())
+            .tag("stage", stage.tag)
+            .register(meterRegistry);
+        Gauge.builder("recording.pipeline.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .tag("stage", stage.tag)
+            .register(meterRegistry);
+
+        return executor;
+    }
+
+    private RecordingPipelineProperties.Stage stageProperties(Stage stage) {
+
+        return switch (stage) {
+            case UNZIP -> properties.getUnzip();
+            case UPLOAD -> properties.getUpload();
+            case STT -> properties.getStt();
+            case FEEDBACK -> properties.getFeedback();
+            case CLEANUP -> properties.getCleanup();
+        };
+    }
+
+    private enum Stage {
+        UNZIP("unzip", RecordingJobStatus.UNZIPPING),
+        UPLOAD("upload", RecordingJobStatus.UPLOADING),
+        STT("stt", RecordingJobStatus.TRANSCRIBING),
+        FEEDBACK("feedback", null),
+        CLEANUP("cleanup", null);
+
+        private final String tag;
+
+        private final RecordingJobStatus status;
+
+        Stage(String tag, RecordingJobStatus status) {
+            this.tag = tag;
+            this.status = status;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StageTask<T> {
+
+        T run() throws Exception;
+    }
+
+    private record RecordedFile(String recordingId, String sessionId, String fileName) {
+
+    }
+}
@@ -0,0 +1,40 @@
+package speechless.session.recording.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recording.pipeline")
+public class RecordingPipelineProperties {
+
+    private Stage unzip = new Stage(2, 20);
+
+    private Stage upload = new Stage(4, 50);
+
+    private Stage stt = new Stage(4, 50);
+
+    private Stage feedback = new Stage(4, 50);
+
+    private Stage cleanup = new Stage(2, 100);
+
+    // 작업 상태 조회 가능 시간
+    private Duration jobTtl = Duration.ofMinutes(10);
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Stage {
+
+        // 동시 처리 스레드 수
+        private int concurrency;
+
+        // 대기열 크기 (초과 시 거절)
+        private int queueCapacity;
+    }
+}
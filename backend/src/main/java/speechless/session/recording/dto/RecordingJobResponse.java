@@ -0,0 +1,24 @@
+package speechless.session.recording.dto;
+
+import speechless.session.recording.application.RecordingJob;
+import speechless.session.recording.application.RecordingJobStatus;
+
+public record RecordingJobResponse(
+    String jobId,
+    RecordingJobStatus status,
+    String text,
+    Double confidence,
+    String message
+) {
+
+    public static RecordingJobResponse from(RecordingJob job) {
+
+        if (job.getTranscript() == null) {
+            return new RecordingJobResponse(job.getJobId(), job.getStatus(), null, null,
+                job.getMessage());
+        }
+
+        return new RecordingJobResponse(job.getJobId(), job.getStatus(),
+            job.getTranscript().getText(), job.getTranscript().getConfidence(), job.getMessage());
+    }
+}
@@ -0,0 +1,13 @@
+package speechless.session.recording.exception;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import speechless.common.error.ErrorCode;
+import speechless.common.error.SpeechlessException;
+
+public class RecordingJobNotFoundException extends SpeechlessException {
+
+    public RecordingJobNotFoundException() {
+        super(new ErrorCode(BAD_REQUEST, "해당 녹음 처리 작업을 찾지 못했습니다"));
+    }
+}
@@ -0,0 +1,13 @@
+package speechless.session.recording.exception;
+
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import speechless.common.error.ErrorCode;
+import speechless.common.error.SpeechlessException;
+
+public class RecordingPipelineBusyException extends SpeechlessException {
+
+    public RecordingPipelineBusyException() {
+        super(new ErrorCode(TOO_MANY_REQUESTS, "녹음 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요"));
+    }
+}
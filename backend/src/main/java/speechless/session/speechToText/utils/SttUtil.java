@@ -1,6 +1,6 @@
 package speechless.session.speechToText.utils;
 
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -12,16 +12,17 @@ import speechless.session.speechToText.exception.SttException;
 @Component
 public class SttUtil {
 
-    private static String invokeUrl;
-    private static String secretKey;
+    private final RestClient client;
 
-    public static SttResponse Stt(SttRequest request) {
-        RestClient client = RestClient.create();
+    public SttUtil(@Qualifier("sttRestClient") RestClient client) {
+        this.client = client;
+    }
+
+    public SttResponse Stt(SttRequest request) {
         try {
             return client.post()
-                .uri(invokeUrl + "/recognizer/object-storage")
+                .uri("/recognizer/object-storage")
                 .contentType(MediaType.APPLICATION_JSON)
-                .header("X-CLOVASPEECH-API-KEY", secretKey)
                 .body(request)
                 .retrieve()
                 .body(SttResponse.class);
@@ -29,14 +30,4 @@ public class SttUtil {
             throw new SttException();
         }
     }
-
-    @Value("${api-keys.stt.invoke-url}")
-    private void setInvokeUrl(String url) {
-        invokeUrl = url;
-    }
-
-    @Value("${api-keys.stt.secret-key}")
-    private void setSecretKey(String key) {
-        secretKey = key;
-    }
 }
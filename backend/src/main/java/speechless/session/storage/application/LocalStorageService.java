@@ -0,0 +1,55 @@
+package speechless.session.storage.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import speechless.session.storage.config.StorageProperties;
+import speechless.session.storage.exception.StorageClientException;
+
+// 클라우드 없이 파이프라인 성능을 측정하기 위한 로컬 디스크 저장소
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    private final Path root;
+
+    public LocalStorageService(StorageProperties properties) {
+        this.root = Paths.get(properties.getLocalPath()).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void upload(String fileName, InputStream inputStream, long contentLength) {
+
+        try {
+            Path target = resolve(fileName);
+            Files.createDirectories(target.getParent());
+            Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new StorageClientException();
+        }
+    }
+
+    @Override
+    public void delete(String fileName) {
+
+        try {
+            Files.deleteIfExists(resolve(fileName));
+        } catch (IOException e) {
+            throw new StorageClientException();
+        }
+    }
+
+    private Path resolve(String fileName) throws IOException {
+
+        Path target = root.resolve(fileName).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("Bad file name: " + fileName);
+        }
+        return target;
+    }
+}
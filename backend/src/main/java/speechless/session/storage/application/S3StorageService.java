@@ -0,0 +1,81 @@
+package speechless.session.storage.application;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import jakarta.annotation.PreDestroy;
+import java.io.InputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import speechless.common.metrics.UpstreamMetrics;
+import speechless.session.storage.exception.StorageClientException;
+import speechless.session.storage.exception.StorageServiceException;
+
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageService implements StorageService {
+
+    private final AmazonS3 amazonS3;
+
+    private final TransferManager transferManager;
+
+    private final UpstreamMetrics upstreamMetrics;
+
+    private final String bucketName;
+
+    public S3StorageService(AmazonS3 amazonS3, TransferManager transferManager,
+        UpstreamMetrics upstreamMetrics,
+        @Value("${api-keys.storage.buket-name}") String bucketName) {
+
+        this.amazonS3 = amazonS3;
+        this.transferManager = transferManager;
+        this.upstreamMetrics = upstreamMetrics;
+        this.bucketName = bucketName;
+    }
+
+    // 임계값 이상은 TransferManager 가 파트 단위로 나누어 업로드
+    @Override
+    public void upload(String fileName, InputStream inputStream, long contentLength) {
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+
+        upstreamMetrics.record("storage", "upload", () -> {
+            try {
+                transferManager.upload(bucketName, fileName, inputStream, metadata)
+                    .waitForCompletion();
+            } catch (AmazonS3Exception e) {
+                throw new StorageServiceException();
+            } catch (SdkClientException e) {
+                throw new StorageClientException();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StorageClientException();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String fileName) {
+
+        upstreamMetrics.record("storage", "delete", () -> {
+            try {
+                amazonS3.deleteObject(bucketName, fileName);
+            } catch (AmazonS3Exception e) {
+                throw new StorageServiceException();
+            } catch (SdkClientException e) {
+                throw new StorageClientException();
+            }
+            return null;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        transferManager.shutdownNow(false);
+    }
+}
@@ -0,0 +1,11 @@
+package speechless.session.storage.application;
+
+import java.io.InputStream;
+
+// 녹음 파일 저장소
+public interface StorageService {
+
+    void upload(String fileName, InputStream inputStream, long contentLength);
+
+    void delete(String fileName);
+}
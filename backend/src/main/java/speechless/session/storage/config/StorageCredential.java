@@ -1,48 +1,68 @@
 package speechless.session.storage.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+// 애플리케이션 전체에서 공유하는 Object Storage 클라이언트
 @Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class StorageCredential {
 
     final static String endPoint = "https://kr.object.ncloudstorage.com";
     final static String regionName = "kr-standard";
-    private static String accessKey;
-    private static String secretKey;
+
+    @Value("${api-keys.storage.access-key}")
+    private String accessKey;
+
+    @Value("${api-keys.storage.secret-key}")
+    private String secretKey;
+
+    private final StorageProperties properties;
 
     @Bean
-    public static AmazonS3 setS3() {
+    public AmazonS3 amazonS3() {
+
         AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
+
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+            .withMaxConnections(properties.getMaxConnections())
+            .withConnectionTimeout((int) properties.getConnectionTimeout().toMillis())
+            .withSocketTimeout((int) properties.getSocketTimeout().toMillis())
+            .withTcpKeepAlive(true);
+
         return AmazonS3ClientBuilder.standard()
             .withEndpointConfiguration(
                 new AwsClientBuilder.EndpointConfiguration(endPoint, regionName))
             .withCredentials(
                 new AWSStaticCredentialsProvider(credentials))
+            .withClientConfiguration(clientConfiguration)
             .build();
     }
 
-    public static String bucketName;
+    // 클라이언트 종료는 AmazonS3 빈이 담당
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
 
-    @Value("${api-keys.storage.access-key}")
-    private void setAccessKey(String key) {
-        accessKey = key;
-    }
-
-    @Value("${api-keys.storage.secret-key}")
-    private void setSecretKey(String key) {
-        secretKey = key;
-    }
-
-    @Value("${api-keys.storage.buket-name}")
-    private void setBucketName(String name) {
-        bucketName = name;
+        return TransferManagerBuilder.standard()
+            .withS3Client(amazonS3)
+            .withMultipartUploadThreshold(properties.getMultipartThreshold().toBytes())
+            .withMinimumUploadPartSize(properties.getMultipartPartSize().toBytes())
+            .withExecutorFactory(
+                () -> Executors.newFixedThreadPool(properties.getTransferThreads()))
+            .build();
     }
 }
@@ -0,0 +1,31 @@
+package speechless.session.storage.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "storage")
+public class StorageProperties {
+
+    // s3 (Object Storage) 또는 local (성능 측정용 로컬 디스크)
+    private String type = "s3";
+
+    private String localPath = "/tmp/speechless-storage";
+
+    private int maxConnections = 50;
+
+    private Duration connectionTimeout = Duration.ofSeconds(3);
+
+    private Duration socketTimeout = Duration.ofSeconds(60);
+
+    // 이 크기 이상이면 멀티파트 업로드
+    private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+
+    private DataSize multipartPartSize = DataSize.ofMegabytes(8);
+
+    private int transferThreads = 8;
+}
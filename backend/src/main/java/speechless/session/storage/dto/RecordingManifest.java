@@ -0,0 +1,9 @@
+package speechless.session.storage.dto;
+
+// OpenVidu 녹화 ZIP 내부 {recordingId}.json 정보
+public record RecordingManifest(
+    String sessionId,
+    String fileName
+) {
+
+}
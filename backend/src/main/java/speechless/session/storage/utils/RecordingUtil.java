@@ -2,18 +2,23 @@ package speechless.session.storage.utils;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import speechless.session.storage.application.StorageService;
+import speechless.session.storage.dto.RecordingManifest;
 import speechless.session.storage.exception.UnzipException;
 
 
@@ -63,33 +68,52 @@ public class RecordingUtil {
         return normalizePath;
     }
 
-    public static String getFileName(String recordingId) {
+    // ZIP 을 풀지 않고 매니페스트 항목만 메모리에서 읽음
+    public static RecordingManifest readManifest(Path sourceZip, String recordingId) {
 
-        try {
-            JSONParser parser = new JSONParser();
-            Reader reader = new FileReader(
-                "/opt/openvidu/recordings/" + recordingId + "/" + recordingId + ".json");
-            JSONObject object = (JSONObject) parser.parse(reader);
-            JSONArray files = (JSONArray) object.get("files");
-            JSONObject file = (JSONObject) files.get(0);
-            return (String) file.get("name");
+        try (ZipFile zipFile = new ZipFile(sourceZip.toFile())) {
+
+            ZipEntry manifestEntry = findEntry(zipFile, recordingId + ".json");
+            try (Reader reader = new InputStreamReader(zipFile.getInputStream(manifestEntry),
+                StandardCharsets.UTF_8)) {
+
+                JSONObject object = (JSONObject) new JSONParser().parse(reader);
+                JSONArray files = (JSONArray) object.get("files");
+                JSONObject file = (JSONObject) files.get(0);
+                return new RecordingManifest((String) object.get("sessionId"),
+                    (String) file.get("name"));
+            }
+        } catch (IOException | ParseException | ClassCastException e) {
+            throw new UnzipException();
+        }
+    }
+
+    // 음성 항목을 디스크에 쓰지 않고 바로 스토리지로 업로드
+    public static void uploadRecording(Path sourceZip, String fileName,
+        StorageService storageService) {
+
+        try (ZipFile zipFile = new ZipFile(sourceZip.toFile())) {
+
+            ZipEntry audioEntry = findEntry(zipFile, fileName);
+            try (InputStream inputStream = zipFile.getInputStream(audioEntry)) {
+                storageService.upload(fileName, inputStream, audioEntry.getSize());
+            }
         } catch (IOException e) {
-            throw new RuntimeException(e);
-        } catch (ParseException e) {
-            throw new RuntimeException(e);
+            throw new UnzipException();
         }
     }
 
-    public static String getSessionId(String recordingId) {
+    private static ZipEntry findEntry(ZipFile zipFile, String name) throws IOException {
 
-        try {
-            JSONParser parser = new JSONParser();
-            Reader reader = new FileReader(
-                "/opt/openvidu/recordings/" + recordingId + "/" + recordingId + ".json");
-            JSONObject object = (JSONObject) parser.parse(reader);
-            return (String) object.get("sessionId");
-        } catch (IOException | ParseException e) {
-            throw new RuntimeException(e);
+        ZipEntry entry = zipFile.getEntry(name);
+        if (entry != null) {
+            return entry;
         }
+
+        // 하위 폴더에 들어있는 경우
+        return zipFile.stream()
+            .filter(zipEntry -> zipEntry.getName().endsWith("/" + name))
+            .findFirst()
+            .orElseThrow(() -> new IOException("Zip entry not found: " + name));
     }
 }
@@ -1,6 +1,9 @@
 package speechless.statement.application;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -16,6 +19,7 @@ import speechless.statement.application.dto.request.StatementRequest;
 import speechless.statement.application.dto.request.StatementUpdateRequest;
 import speechless.statement.application.dto.response.StatementListResponse;
 import speechless.statement.application.dto.response.StatementResponse;
+import speechless.statement.application.event.StatementChangedEvent;
 import speechless.statement.domain.Statement;
 import speechless.statement.domain.StatementQuestion;
 import speechless.statement.domain.mapper.StatementMapper;
@@ -33,6 +37,8 @@ public class StatementService {
 
     private final MemberRepository memberRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public StatementResponse createStatement(StatementRequest request,
         AuthCredentials authCredentials) throws SpeechlessException {
@@ -82,15 +88,40 @@ public class StatementService {
         Page<StatementResponse> responsePage = statements.map(StatementMapper.INSTANCE::toResponse);
         return new StatementListResponse(
             responsePage.getContent(), responsePage.getNumber() + 1,
-            responsePage.getTotalPages(), responsePage.getTotalElements());
+            responsePage.getTotalPages(), responsePage.getTotalElements(), null);
     }
 
-    public StatementResponse getStatement(Long id, AuthCredentials authCredentials) throws SpeechlessException {
+    // 커서 기반 목록 (withCount 가 true 일 때만 전체 개수 조회)
+    public StatementListResponse getStatements(int pageSize, Long cursor, boolean withCount,
+        AuthCredentials authCredentials) throws SpeechlessException {
+
+        if (pageSize < 1 || pageSize > 20) {
+            throw new PageException();
+        }
 
         Member loginMember = memberRepository.findById(authCredentials.id())
             .orElseThrow(MemberNotFoundException::new);
 
-        Statement statement = statementRepository.findByMemberIdAndId(loginMember.getId(), id)
+        List<Statement> statements = new ArrayList<>(statementRepository
+            .findAllByMemberAndIdLessThanOrderByIdDesc(loginMember,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.ofSize(pageSize + 1)));
+
+        Long nextCursor = null;
+        if (statements.size() > pageSize) {
+            statements.remove(statements.size() - 1);
+            nextCursor = statements.get(statements.size() - 1).getId();
+        }
+
+        Long totalCount = withCount ? statementRepository.countByMember(loginMember) : null;
+
+        return new StatementListResponse(
+            statements.stream().map(StatementMapper.INSTANCE::toResponse).toList(),
+            null, null, totalCount, nextCursor);
+    }
+
+    public StatementResponse getStatement(Long id, AuthCredentials authCredentials) throws SpeechlessException {
+
+        Statement statement = statementRepository.findByMemberIdAndId(authCredentials.id(), id)
             .orElseThrow(StatementNotFoundException::new);
 
         return StatementMapper.INSTANCE.toResponse(statement);
@@ -105,6 +136,7 @@ public class StatementService {
         checkAuth(authCredentials, statement);
 
         statementRepository.delete(statement);
+        eventPublisher.publishEvent(new StatementChangedEvent(id));
     }
 
 
@@ -133,6 +165,7 @@ public class StatementService {
 
         statement = updateStatement;
         statementRepository.save(statement);
+        eventPublisher.publishEvent(new StatementChangedEvent(request.getId()));
         return StatementMapper.INSTANCE.toResponse(statement);
     }
 
@@ -4,9 +4,10 @@ import java.util.List;
 
 public record StatementListResponse(
     List<StatementResponse> statements,
-    int currentPage,
-    int totalPage,
-    long totalCount
+    Integer currentPage,
+    Integer totalPage,
+    Long totalCount,
+    Long nextCursor
 ) {
 
 }
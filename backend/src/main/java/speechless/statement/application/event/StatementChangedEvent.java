@@ -0,0 +1,6 @@
+package speechless.statement.application.event;
+
+// 자기소개서 내용 변경(수정/삭제) 알림
+public record StatementChangedEvent(Long statementId) {
+
+}
@@ -22,6 +22,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.DynamicUpdate;
 import speechless.common.entity.BaseTimeEntity;
 import speechless.common.error.validation.OutOfSizeException;
@@ -66,6 +67,7 @@ public class Statement extends BaseTimeEntity {
     @OneToMany(mappedBy = "statement", fetch = FetchType.LAZY,
             cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("id ASC ")
+    @BatchSize(size = 100)
     @Builder.Default
     private List<StatementQuestion> questions = new ArrayList<>();
 
@@ -1,5 +1,6 @@
 package speechless.statement.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,9 +13,16 @@ public interface StatementRepository extends JpaRepository<Statement, Long> {
 
     Page<Statement> findAllByMember(Member member, Pageable pageable);
 
-    @Query(value = "SELECT s FROM Statement s "
-        + "JOIN s.questions "
-        + "ON s.member.id = :memberId "
+    // 커서(keyset) 페이지네이션 : 카운트 쿼리 없이 id 인덱스로 바로 탐색
+    List<Statement> findAllByMemberAndIdLessThanOrderByIdDesc(Member member, Long cursor,
+        Pageable pageable);
+
+    long countByMember(Member member);
+
+    // 문항까지 한 번에 조회 (상세 조회, 면접 질문 생성)
+    @Query(value = "SELECT DISTINCT s FROM Statement s "
+        + "LEFT JOIN FETCH s.questions "
+        + "WHERE s.member.id = :memberId "
         + "AND s.id = :id ")
     Optional<Statement> findByMemberIdAndId(Long memberId, Long id);
 }
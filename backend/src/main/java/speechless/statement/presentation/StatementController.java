@@ -45,7 +45,16 @@ public class StatementController {
     public ResponseEntity<StatementListResponse> getStatements(
         @Parameter(hidden = true) @Auth AuthCredentials authCredentials,
         @RequestParam int pageSize,
-        @RequestParam int pageNum) {
+        @RequestParam(required = false) Integer pageNum,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "false") boolean withCount) {
+
+        // pageNum 이 없으면 커서 기반 조회
+        if (pageNum == null) {
+            return new ResponseEntity<>(statementService
+                .getStatements(pageSize, cursor, withCount, authCredentials),
+                HttpStatus.OK);
+        }
 
         return new ResponseEntity<>(statementService
             .getStatements(pageSize, pageNum, authCredentials),
@@ -0,0 +1,9 @@
+-- 게시글 제목/내용 검색 : MATCH ... AGAINST (MySqlCommunitySearchEngine)
+-- 한글은 띄어쓰기 단위로 나뉘지 않으므로 ngram 파서 사용
+-- InnoDB 는 FULLTEXT 인덱스를 한 번에 하나씩만 추가할 수 있다
+
+ALTER TABLE `community`
+  ADD FULLTEXT KEY `ft_community_title` (`title`) WITH PARSER `ngram`;
+
+ALTER TABLE `community`
+  ADD FULLTEXT KEY `ft_community_content` (`content`) WITH PARSER `ngram`;
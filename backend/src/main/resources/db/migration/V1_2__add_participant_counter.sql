@@ -0,0 +1,19 @@
+-- 참여 인원 카운터와 중복 참여 방지 유니크 키
+
+ALTER TABLE `community`
+  ADD COLUMN `current_participants` int NOT NULL DEFAULT '0' AFTER `max_participants`;
+
+-- 유니크 키 추가 전 같은 회원의 중복 참여는 가장 먼저 신청한 것만 남김
+DELETE p1 FROM `participant` p1
+  JOIN `participant` p2
+    ON p1.`community_id` = p2.`community_id`
+   AND p1.`member_id` = p2.`member_id`
+   AND p1.`id` > p2.`id`;
+
+ALTER TABLE `participant`
+  ADD UNIQUE KEY `uk_participant_community_member` (`community_id`, `member_id`);
+
+-- 기존 참여 기록으로 참여 인원 채움
+UPDATE `community` c
+   SET c.`current_participants` = (
+     SELECT COUNT(*) FROM `participant` p WHERE p.`community_id` = c.`id`);
@@ -0,0 +1,43 @@
+-- 데이터 변경 마이그레이션 : 같은 (email, member_type) 으로 중복 가입된 회원 병합
+-- 되돌릴 수 없음 (중복 회원 행과 그 리프레시 토큰을 삭제) → 적용 전 member 테이블 백업 필요
+-- 가장 먼저 가입한 회원(MIN(id))을 남기고 작성글/면접/자기소개서/참여를 그 회원으로 옮김
+CREATE TEMPORARY TABLE `member_merge` AS
+SELECT m.`id` AS `dup_id`, k.`keep_id`
+  FROM `member` m
+  JOIN (SELECT `email`, `member_type`, MIN(`id`) AS `keep_id`
+          FROM `member`
+         WHERE `email` IS NOT NULL AND `member_type` IS NOT NULL
+         GROUP BY `email`, `member_type`
+        HAVING COUNT(*) > 1) k
+    ON m.`email` = k.`email` AND m.`member_type` = k.`member_type`
+ WHERE m.`id` <> k.`keep_id`;
+
+UPDATE `community` c JOIN `member_merge` mm ON c.`writer_id` = mm.`dup_id`
+   SET c.`writer_id` = mm.`keep_id`;
+
+UPDATE `interview_info` i JOIN `member_merge` mm ON i.`member_id` = mm.`dup_id`
+   SET i.`member_id` = mm.`keep_id`;
+
+UPDATE `statement` s JOIN `member_merge` mm ON s.`member_id` = mm.`dup_id`
+   SET s.`member_id` = mm.`keep_id`;
+
+-- 두 계정이 같은 글에 참여한 경우 남는 회원의 참여만 유지
+UPDATE IGNORE `participant` p JOIN `member_merge` mm ON p.`member_id` = mm.`dup_id`
+   SET p.`member_id` = mm.`keep_id`;
+DELETE p FROM `participant` p JOIN `member_merge` mm ON p.`member_id` = mm.`dup_id`;
+
+-- 합쳐진 회원의 리프레시 토큰은 폐기 (다시 로그인)
+DELETE t FROM `refresh_token` t JOIN `member_merge` mm ON t.`member_id` = mm.`dup_id`;
+
+DELETE m FROM `member` m JOIN `member_merge` mm ON m.`id` = mm.`dup_id`;
+
+DROP TEMPORARY TABLE `member_merge`;
+
+-- 옮겨지거나 지워진 참여에 맞춰 참여 인원 재계산
+UPDATE `community` c
+   SET c.`current_participants` = (
+     SELECT COUNT(*) FROM `participant` p WHERE p.`community_id` = c.`id`);
+
+-- 병합 후 중복 가입 방지 (소셜 로그인 : findByEmailAndMemberType)
+ALTER TABLE `member`
+  ADD UNIQUE KEY `uk_member_email_type` (`email`, `member_type`);
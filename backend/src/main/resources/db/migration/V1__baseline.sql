@@ -0,0 +1,123 @@
+-- 운영 DB 스키마 기준선 (Flyway 도입 전 exec/speechless_struct.sql)
+-- 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다
+
+CREATE TABLE `member` (
+  `id` int unsigned NOT NULL AUTO_INCREMENT,
+  `name` varchar(50) DEFAULT NULL,
+  `profile` varchar(200) DEFAULT NULL,
+  `email` varchar(100) DEFAULT NULL,
+  `member_type` enum('kakao','naver','google') DEFAULT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `community` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `writer_id` int unsigned NOT NULL,
+  `category` varchar(20) DEFAULT NULL,
+  `title` varchar(50) DEFAULT NULL,
+  `content` varchar(1000) DEFAULT NULL,
+  `deadline` timestamp NULL DEFAULT NULL,
+  `session_start` timestamp NULL DEFAULT NULL,
+  `is_invisible` bit(1) DEFAULT NULL,
+  `is_deleted` bit(1) DEFAULT b'0',
+  `hit` bigint DEFAULT '0',
+  `max_participants` int DEFAULT '5',
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  KEY `writer_id` (`writer_id`),
+  CONSTRAINT `community_ibfk_1` FOREIGN KEY (`writer_id`) REFERENCES `member` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `announcement_info` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `community_id` bigint NOT NULL,
+  `announcement_id` varchar(200) DEFAULT NULL,
+  `topic` varchar(30) DEFAULT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  KEY `community_id` (`community_id`),
+  CONSTRAINT `announcement_info_ibfk_1` FOREIGN KEY (`community_id`) REFERENCES `community` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `interview_info` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `member_id` int unsigned NOT NULL,
+  `topic` varchar(30) DEFAULT NULL,
+  `pronunciation_score` int DEFAULT NULL,
+  `pronunciation_graph` varchar(2000) DEFAULT NULL,
+  `face_score` int DEFAULT NULL,
+  `face_graph` varchar(2000) DEFAULT NULL,
+  `is_completion` bit(1) DEFAULT b'0',
+  `start_time` timestamp NULL DEFAULT NULL,
+  `end_time` timestamp NULL DEFAULT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  KEY `member_id` (`member_id`),
+  CONSTRAINT `interview_info_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `interview_question` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `interview_id` bigint NOT NULL,
+  `question` varchar(200) DEFAULT NULL,
+  `answer` varchar(2000) DEFAULT NULL,
+  `feedback` varchar(1000) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `interview_id` (`interview_id`),
+  CONSTRAINT `interview_question_ibfk_1` FOREIGN KEY (`interview_id`) REFERENCES `interview_info` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `participant` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `member_id` int unsigned NOT NULL,
+  `community_id` bigint NOT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  KEY `member_id` (`member_id`),
+  KEY `community_id` (`community_id`),
+  CONSTRAINT `participant_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`),
+  CONSTRAINT `participant_ibfk_2` FOREIGN KEY (`community_id`) REFERENCES `community` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `refresh_token` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `member_id` int unsigned NOT NULL,
+  `token` varchar(200) DEFAULT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  KEY `member_id` (`member_id`),
+  CONSTRAINT `refresh_token_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `statement` (
+  `id` int unsigned NOT NULL AUTO_INCREMENT,
+  `member_id` int unsigned NOT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `title` varchar(20) DEFAULT NULL,
+  `company` varchar(20) DEFAULT NULL,
+  `position` varchar(30) DEFAULT NULL,
+  `career` int DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `member_id` (`member_id`),
+  CONSTRAINT `statement_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE `statement_question` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `statement_id` int unsigned NOT NULL,
+  `question` varchar(200) DEFAULT NULL,
+  `answer` varchar(1000) DEFAULT NULL,
+  `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`id`),
+  KEY `statement_id` (`statement_id`),
+  CONSTRAINT `statement_question_ibfk_1` FOREIGN KEY (`statement_id`) REFERENCES `statement` (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
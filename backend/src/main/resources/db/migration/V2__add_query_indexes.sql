@@ -0,0 +1,33 @@
+-- 실제 조회 조건에 맞춘 복합 인덱스
+-- InnoDB 보조 인덱스는 PK(id)를 끝에 포함하므로 id 정렬 조건은 따로 두지 않는다
+
+-- 월별 면접 기록 : findAllByMemberAndStartTimeBetweenAndIsCompletionIsTrue
+-- 면접 목록(커서) : member_id = ? AND is_completion = true AND id < ? ORDER BY id DESC
+ALTER TABLE `interview_info`
+  ADD KEY `idx_interview_info_member_completion_start` (`member_id`, `is_completion`, `start_time`),
+  ADD KEY `idx_interview_info_member_completion` (`member_id`, `is_completion`);
+
+-- 회원별 참여 목록 : member_id 로 찾아 community 로 조인
+-- 참여 여부(existsByCommunityIdAndMemberId)는 uk_participant_community_member 사용
+ALTER TABLE `participant`
+  ADD KEY `idx_participant_member_community` (`member_id`, `community_id`);
+
+-- 토큰 재발급 : findByToken
+ALTER TABLE `refresh_token`
+  ADD KEY `idx_refresh_token_token` (`token`);
+
+-- 세션 종료 : findByAnnouncementId
+ALTER TABLE `announcement_info`
+  ADD KEY `idx_announcement_info_announcement_id` (`announcement_id`);
+
+-- 인기글/모집중 필터 : is_deleted = false AND deadline >= now
+ALTER TABLE `community`
+  ADD KEY `idx_community_deleted_deadline` (`is_deleted`, `deadline`);
+
+-- 위에서 추가한 복합 인덱스가 선두 컬럼으로 FK 를 대신하므로 단일 인덱스 제거
+-- interview_info.member_id  → idx_interview_info_member_completion
+-- participant.member_id     → idx_participant_member_community
+-- participant.community_id  → uk_participant_community_member (V1_2)
+ALTER TABLE `interview_info` DROP KEY `member_id`;
+ALTER TABLE `participant` DROP KEY `member_id`;
+ALTER TABLE `participant` DROP KEY `community_id`;
@@ -0,0 +1,3 @@
+-- 월별 참여 세션/캘린더 : session_start >= ? AND session_start < ?
+ALTER TABLE `community`
+  ADD KEY `idx_community_session_start` (`session_start`);
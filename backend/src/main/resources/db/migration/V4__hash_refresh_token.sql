@@ -0,0 +1,25 @@
+-- 리프레시 토큰 원문 대신 고정 길이 해시 + 만료 시각 저장
+
+ALTER TABLE `refresh_token`
+  ADD COLUMN `token_hash` char(64) NULL AFTER `member_id`,
+  ADD COLUMN `expires_at` timestamp NULL AFTER `token_hash`;
+
+-- 원문이나 발급 시각이 없는 토큰은 해시/만료 시각을 만들 수 없으므로 폐기 (다시 로그인)
+DELETE FROM `refresh_token` WHERE `token` IS NULL OR `created_at` IS NULL;
+
+-- 기존 토큰은 발급 시각 + 14일(refresh-token-expiration-time 기본값)로 만료 처리
+UPDATE `refresh_token`
+SET `token_hash` = SHA2(`token`, 256),
+    `expires_at` = DATE_ADD(`created_at`, INTERVAL 14 DAY);
+
+-- 같은 토큰이 중복 저장된 경우 최신 행만 남김
+DELETE t1 FROM `refresh_token` t1
+  JOIN `refresh_token` t2 ON t1.`token_hash` = t2.`token_hash` AND t1.`id` < t2.`id`;
+
+ALTER TABLE `refresh_token`
+  MODIFY `token_hash` char(64) NOT NULL,
+  MODIFY `expires_at` timestamp NOT NULL,
+  ADD UNIQUE KEY `uk_refresh_token_hash` (`token_hash`),
+  ADD KEY `idx_refresh_token_expires_at` (`expires_at`),
+  DROP KEY `idx_refresh_token_token`,
+  DROP COLUMN `token`;
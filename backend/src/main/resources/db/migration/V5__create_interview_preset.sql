@@ -0,0 +1,30 @@
+-- GPT 장애 시 대신 제공하는 기본 면접 질문 (position 이 NULL 이면 모든 직무 공통)
+CREATE TABLE `interview_preset` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `position` varchar(50) DEFAULT NULL,
+  `topic` varchar(50) NOT NULL,
+  `question` varchar(200) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_interview_preset_position` (`position`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT INTO `interview_preset` (`position`, `topic`, `question`) VALUES
+  (NULL, '인성', '1분 자기소개 해주세요.'),
+  (NULL, '인성', '본인의 장단점에 대해 설명해주세요.'),
+  (NULL, '인성', '인생에서 가장 힘들었던 경험이 무엇이고 어떻게 극복했나요?'),
+  (NULL, '인성', '동료와 의견이 달랐던 경험과 이를 해결한 방법을 말씀해주세요.'),
+  (NULL, '지원동기', '우리 회사에 지원한 이유는 무엇인가요?'),
+  (NULL, '지원동기', '입사 후 5년 뒤 본인의 모습은 어떨 것 같나요?'),
+  (NULL, '경험', '본인이 가장 잘한 프로젝트에 대해 설명해주세요.'),
+  (NULL, '경험', '프로젝트에서 실패했던 경험과 그로부터 배운 점을 말씀해주세요.'),
+  (NULL, '기술', '본인이 가장 자신있는 기술에 대해 설명해주세요.'),
+  (NULL, '기술', '최근에 새로 학습한 기술과 학습 방법을 말씀해주세요.'),
+  ('백엔드', '기술', '트랜잭션 격리 수준의 종류와 각각에서 발생할 수 있는 문제를 설명해주세요.'),
+  ('백엔드', '기술', '데이터베이스 인덱스의 동작 원리와 인덱스를 설계할 때 고려할 점을 말씀해주세요.'),
+  ('백엔드', '기술', '대량의 트래픽이 몰릴 때 서버 성능을 개선했던 경험이나 방법을 설명해주세요.'),
+  ('백엔드', '기술', 'REST API 를 설계할 때 중요하게 생각하는 원칙은 무엇인가요?'),
+  ('프론트엔드', '기술', '브라우저가 화면을 렌더링하는 과정을 설명해주세요.'),
+  ('프론트엔드', '기술', '웹 페이지 초기 로딩 속도를 개선했던 경험이나 방법을 말씀해주세요.'),
+  ('프론트엔드', '기술', '상태 관리 라이브러리를 선택할 때 고려하는 기준은 무엇인가요?'),
+  ('AI', '기술', '모델의 과적합을 판단하고 해결하는 방법을 설명해주세요.'),
+  ('AI', '기술', '학습 데이터가 부족할 때 사용할 수 있는 방법을 말씀해주세요.');
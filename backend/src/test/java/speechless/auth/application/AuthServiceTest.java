@@ -0,0 +1,84 @@
+package speechless.auth.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import speechless.auth.domain.RefreshToken;
+import speechless.auth.domain.repository.RefreshTokenRepository;
+import speechless.auth.dto.TokenDto;
+import speechless.auth.exception.RefreshTokenNotFoundException;
+import speechless.auth.support.JwtProvider;
+import speechless.auth.support.TokenHasher;
+import speechless.common.config.JwtCredentials;
+import speechless.member.domain.repository.MemberRepository;
+
+// 리프레시 토큰 교체 테스트
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceTest {
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private JwtCredentials jwtCredentials;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private AuthService authService;
+
+    @DisplayName("토큰 갱신 시 리프레시 토큰도 새 토큰으로 교체")
+    @Test
+    public void rotateRefreshToken() {
+
+        // given
+        String oldHash = TokenHasher.hash("old");
+        when(refreshTokenRepository.findByTokenHash(oldHash)).thenReturn(Optional.of(
+            new RefreshToken(1L, oldHash, LocalDateTime.now().plusDays(1))));
+        when(jwtProvider.createRefreshToken()).thenReturn("new");
+        when(jwtProvider.createAccessToken(1L)).thenReturn("access");
+        when(jwtCredentials.getRefreshTokenExpirationTime()).thenReturn(60000L);
+        when(refreshTokenRepository.rotate(eq(oldHash), anyString(), any())).thenReturn(1);
+
+        // when
+        TokenDto tokenDto = authService.renewTokensBy("old");
+
+        // then
+        Assertions.assertThat(tokenDto.accessToken()).isEqualTo("access");
+        Assertions.assertThat(tokenDto.refreshToken()).isEqualTo("new");
+        verify(refreshTokenRepository).rotate(eq(oldHash), eq(TokenHasher.hash("new")), any());
+    }
+
+    @DisplayName("이미 교체된 리프레시 토큰으로는 갱신 불가")
+    @Test
+    public void rejectRotatedRefreshToken() {
+
+        // given
+        String oldHash = TokenHasher.hash("old");
+        when(refreshTokenRepository.findByTokenHash(oldHash)).thenReturn(Optional.of(
+            new RefreshToken(1L, oldHash, LocalDateTime.now().plusDays(1))));
+        when(jwtProvider.createRefreshToken()).thenReturn("new");
+        when(jwtCredentials.getRefreshTokenExpirationTime()).thenReturn(60000L);
+        when(refreshTokenRepository.rotate(eq(oldHash), anyString(), any())).thenReturn(0);
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> authService.renewTokensBy("old"))
+            .isInstanceOf(RefreshTokenNotFoundException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package speechless.auth.support;
+
+import java.time.Duration;
+import java.util.Date;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import speechless.auth.exception.TokenInvalidException;
+import speechless.common.config.JwtCredentials;
+
+// JWT 검증 및 검증 결과 캐시 테스트
+public class JwtProviderTest {
+
+    private static final String SECRET_KEY = "speechless-test-secret-key-speechless-test-secret-key";
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    public void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+        jwtProvider = new JwtProvider(new JwtCredentials(SECRET_KEY, 60000, 60000),
+            verifiedTokenCache);
+    }
+
+    @DisplayName("검증한 토큰은 캐시에서 subject 를 꺼내 사용")
+    @Test
+    public void cacheVerifiedToken() {
+
+        // given
+        String accessToken = jwtProvider.createAccessToken(1L);
+
+        // when
+        String payload = jwtProvider.getPayload(accessToken);
+
+        // then
+        Assertions.assertThat(payload).isEqualTo("1");
+        Assertions.assertThat(verifiedTokenCache.getSubject(accessToken)).contains("1");
+        Assertions.assertThat(jwtProvider.getPayload(accessToken)).isEqualTo("1");
+    }
+
+    @DisplayName("서명이 다른 토큰은 캐시하지 않고 예외")
+    @Test
+    public void rejectTamperedToken() {
+
+        // given
+        String accessToken = jwtProvider.createAccessToken(1L);
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> jwtProvider.getPayload(tampered))
+            .isInstanceOf(TokenInvalidException.class);
+        Assertions.assertThat(verifiedTokenCache.getSubject(tampered)).isEmpty();
+    }
+
+    @DisplayName("이미 만료된 토큰은 캐시에 넣지 않음")
+    @Test
+    public void skipExpiredToken() {
+
+        // when
+        verifiedTokenCache.put("expired", "1", new Date(System.currentTimeMillis() - 1000));
+
+        // then
+        Assertions.assertThat(verifiedTokenCache.getSubject("expired")).isEmpty();
+    }
+}
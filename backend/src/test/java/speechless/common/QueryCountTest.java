@@ -0,0 +1,171 @@
+package speechless.common;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import speechless.auth.dto.AuthCredentials;
+import speechless.interview.application.InterviewInfoService;
+import speechless.interview.application.dto.response.InterviewInfoResponse;
+import speechless.interview.domain.InterviewInfo;
+import speechless.interview.domain.InterviewQuestion;
+import speechless.interview.domain.repository.InterviewInfoRepository;
+import speechless.member.domain.Member;
+import speechless.member.domain.MemberType;
+import speechless.member.domain.repository.MemberRepository;
+import speechless.statement.application.StatementService;
+import speechless.statement.application.dto.response.StatementListResponse;
+import speechless.statement.application.dto.response.StatementResponse;
+import speechless.statement.domain.Statement;
+import speechless.statement.domain.StatementQuestion;
+import speechless.statement.domain.repository.StatementRepository;
+
+// 상세 조회 SQL 실행 횟수 테스트 (N+1 회귀 방지)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class QueryCountTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StatementRepository statementRepository;
+
+    @Autowired
+    private InterviewInfoRepository interviewRepository;
+
+    @Autowired
+    private StatementService statementService;
+
+    @Autowired
+    private InterviewInfoService interviewInfoService;
+
+    private Statistics statistics;
+
+    private Member member;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = memberRepository.save(Member.builder()
+            .name("테스트 멤버")
+            .profile("")
+            .email("테스트 이메일")
+            .memberType(MemberType.kakao)
+            .build());
+    }
+
+    @DisplayName("자기소개서 상세 조회는 문항까지 쿼리 1번")
+    @Test
+    public void statementDetailQueryCount() {
+
+        // given
+        Statement statement = saveStatement();
+        clearContext();
+
+        // when
+        StatementResponse response = statementService.getStatement(statement.getId(),
+            new AuthCredentials(member.getId()));
+
+        // then
+        Assertions.assertThat(response.getQuestions()).hasSize(3);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("면접 질문 생성용 자기소개서 조회는 쿼리 1번")
+    @Test
+    public void questionInputQueryCount() {
+
+        // given
+        Statement statement = saveStatement();
+        clearContext();
+
+        // when
+        Statement result = statementRepository.findByMemberIdAndId(member.getId(),
+            statement.getId()).orElseThrow();
+        result.getQuestions().forEach(StatementQuestion::getAnswer);
+
+        // then
+        Assertions.assertThat(result.getQuestions()).hasSize(3);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("면접 리포트 조회는 질문까지 쿼리 1번")
+    @Test
+    public void interviewReportQueryCount() {
+
+        // given
+        InterviewInfo interviewInfo = InterviewInfo.builder()
+            .member(member)
+            .topic("면접")
+            .isCompletion(true)
+            .build();
+        for (int i = 0; i < 3; i++) {
+            interviewInfo.addQuestion(InterviewQuestion.builder()
+                .question("질문" + i).answer("답변" + i).feedback("피드백" + i).build());
+        }
+        interviewRepository.save(interviewInfo);
+        clearContext();
+
+        // when
+        InterviewInfoResponse response = interviewInfoService.getInterviewInfo(
+            new AuthCredentials(member.getId()), interviewInfo.getId());
+
+        // then
+        Assertions.assertThat(response.getQuestions()).hasSize(3);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("자기소개서 목록 조회는 목록 크기와 무관하게 문항을 한 번에 조회")
+    @Test
+    public void statementListQueryCount() {
+
+        // given
+        for (int i = 0; i < 5; i++) {
+            saveStatement();
+        }
+        clearContext();
+
+        // when
+        StatementListResponse response = statementService.getStatements(5, null, false,
+            new AuthCredentials(member.getId()));
+
+        // then : 회원 + 목록 + 문항(batch)
+        Assertions.assertThat(response.statements()).hasSize(5);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private Statement saveStatement() {
+        Statement statement = Statement.builder()
+            .member(member)
+            .title("제목")
+            .company("회사")
+            .position("직무")
+            .career(0)
+            .build();
+        for (int i = 0; i < 3; i++) {
+            statement.addQuestion(StatementQuestion.builder()
+                .question("문항" + i).answer("답변" + i).build());
+        }
+        return statementRepository.save(statement);
+    }
+
+    private void clearContext() {
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,233 @@
+package speechless.common;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import speechless.announcement.domain.Announcement;
+import speechless.announcement.domain.repository.AnnouncementRepository;
+import speechless.auth.domain.RefreshToken;
+import speechless.auth.domain.repository.RefreshTokenRepository;
+import speechless.common.SqlCapture.CapturedSql;
+import speechless.community.domain.Community;
+import speechless.community.domain.Participant;
+import speechless.community.domain.repository.CommunityRepository;
+import speechless.community.domain.repository.ParticipantRepository;
+import speechless.interview.domain.InterviewInfo;
+import speechless.interview.domain.repository.InterviewInfoRepository;
+import speechless.member.domain.Member;
+import speechless.member.domain.MemberType;
+import speechless.member.domain.repository.MemberRepository;
+
+// 핵심 조회 쿼리 실행 계획 테스트 (리포지토리가 실제로 만든 SQL 의 풀 스캔 여부)
+@SpringBootTest
+@Import(SqlCapture.class)
+@Transactional
+public class QueryPlanTest {
+
+    private static final int SEED_SIZE = 50;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private InterviewInfoRepository interviewRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private AnnouncementRepository announcementRepository;
+
+    private Member member;
+
+    private Community community;
+
+    @BeforeEach
+    public void setUp() {
+
+        // 옵티마이저가 인덱스를 고를 수 있도록 회원/게시글/참여/면접/토큰을 여러 건 저장
+        for (int i = 0; i < SEED_SIZE; i++) {
+            Member seedMember = memberRepository.save(Member.builder()
+                .name("멤버" + i)
+                .profile("")
+                .email("member" + i + "@speechless.com")
+                .memberType(MemberType.kakao)
+                .build());
+            Community seedCommunity = communityRepository.save(Community.builder()
+                .writer(seedMember)
+                .category("면접")
+                .title("제목" + i)
+                .content("내용")
+                .deadline(new Date(System.currentTimeMillis() + (i - 25) * 86_400_000L))
+                .sessionStart(new Date(System.currentTimeMillis() + (i - 25) * 86_400_000L))
+                .hit((long) i)
+                .maxParticipants(4)
+                .build());
+            participantRepository.save(Participant.builder()
+                .community(seedCommunity)
+                .member(seedMember)
+                .build());
+            announcementRepository.save(Announcement.builder()
+                .community(seedCommunity)
+                .announcementId("session" + i)
+                .topic("주제")
+                .build());
+            interviewRepository.save(InterviewInfo.builder()
+                .member(seedMember)
+                .topic("면접")
+                .isCompletion(true)
+                .startTime(LocalDateTime.now().minusDays(i))
+                .build());
+            refreshTokenRepository.save(new RefreshToken(seedMember.getId(),
+                "%064d".formatted(i), LocalDateTime.now().plusDays(i - 25)));
+
+            if (i == 0) {
+                member = seedMember;
+                community = seedCommunity;
+            }
+        }
+        em.flush();
+        em.clear();
+        jdbcTemplate.execute("ANALYZE TABLE member, community, participant, "
+            + "announcement_info, interview_info, refresh_token");
+        sqlCapture.clear();
+    }
+
+    @DisplayName("월별 면접 기록 조회는 인덱스를 사용한다")
+    @Test
+    public void monthlyInterviewPlanTest() {
+        interviewRepository.findMonthlySummariesByMember(member,
+            LocalDateTime.now().minusMonths(1), LocalDateTime.now());
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("면접 목록 커서 조회는 인덱스를 사용한다")
+    @Test
+    public void interviewCursorPlanTest() {
+        interviewRepository.findSummariesByMemberBefore(member, Long.MAX_VALUE,
+            PageRequest.of(0, 11));
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("참여 여부 조회는 인덱스를 사용한다")
+    @Test
+    public void participantExistsPlanTest() {
+        participantRepository.existsByCommunityIdAndMemberId(community.getId(), member.getId());
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("회원별 참여 목록 조회는 인덱스를 사용한다")
+    @Test
+    public void participatedCommunityPlanTest() {
+        participantRepository.findFinishedByMemberBefore(member, Long.MAX_VALUE,
+            PageRequest.of(0, 11));
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("이번 달 참여 세션 조회는 인덱스를 사용한다")
+    @Test
+    public void currentParticipationPlanTest() {
+        participantRepository.findCurrentByMember(member,
+            new Date(System.currentTimeMillis() - 30 * 86_400_000L), new Date());
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("소셜 로그인 회원 조회는 인덱스를 사용한다")
+    @Test
+    public void memberLoginPlanTest() {
+        memberRepository.findByEmailAndMemberType(member.getEmail(), MemberType.kakao);
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("리프레시 토큰 조회는 인덱스를 사용한다")
+    @Test
+    public void refreshTokenPlanTest() {
+        refreshTokenRepository.findByTokenHash("%064d".formatted(0));
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("만료 토큰 삭제는 인덱스를 사용한다")
+    @Test
+    public void expiredRefreshTokenPlanTest() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now(), 1000);
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("세션 공지 조회는 인덱스를 사용한다")
+    @Test
+    public void announcementPlanTest() {
+        announcementRepository.findByAnnouncementId("session0");
+
+        assertNoFullScan();
+    }
+
+    @DisplayName("인기글 조회는 인덱스를 사용한다")
+    @Test
+    public void popularCommunityPlanTest() {
+        communityRepository.findPopularCommunities();
+
+        assertNoFullScan();
+    }
+
+    // 직전 리포지토리 호출이 실행한 SQL 을 같은 바인딩 값으로 EXPLAIN
+    private void assertNoFullScan() {
+
+        List<CapturedSql> statements = sqlCapture.getStatements().stream()
+            .filter(captured -> isExplainable(captured.sql()))
+            .toList();
+        sqlCapture.clear();
+
+        Assertions.assertThat(statements).isNotEmpty();
+        for (CapturedSql captured : statements) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN " + captured.sql(), captured.args());
+
+            Assertions.assertThat(plan).isNotEmpty();
+            plan.forEach(row -> Assertions.assertThat(row.get("type"))
+                .as("%s : %s", row.get("table"), captured.sql())
+                .isNotEqualTo("ALL"));
+        }
+    }
+
+    private boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("delete")
+            || head.startsWith("update");
+    }
+}
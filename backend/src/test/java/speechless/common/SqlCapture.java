@@ -0,0 +1,97 @@
+package speechless.common;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+// DataSource 를 감싸 실제로 실행된 SQL 과 바인딩 값을 기록 (테스트 전용)
+public class SqlCapture implements BeanPostProcessor {
+
+    private final List<CapturedSql> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                if (result instanceof Connection connection) {
+                    return proxyConnection(connection);
+                }
+                return result;
+            });
+        }
+        return bean;
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<CapturedSql> getStatements() {
+        return new ArrayList<>(statements);
+    }
+
+    private Connection proxyConnection(Connection connection) {
+
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (result instanceof PreparedStatement statement
+                && method.getName().equals("prepareStatement")) {
+                CapturedSql captured = new CapturedSql((String) args[0], new TreeMap<>());
+                statements.add(captured);
+                return proxyStatement(statement, captured);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement proxyStatement(PreparedStatement statement, CapturedSql captured) {
+
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            // setXxx(index, value, ...) : 바인딩 값 기록
+            if (method.getName().startsWith("set") && args != null && args.length >= 2
+                && args[0] instanceof Integer index) {
+                captured.params().put(index,
+                    method.getName().equals("setNull") ? null : args[1]);
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+            invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+
+        Object invoke(T target, java.lang.reflect.Method method, Object[] args) throws Throwable;
+    }
+
+    public record CapturedSql(String sql, Map<Integer, Object> params) {
+
+        public Object[] args() {
+            return params.values().toArray();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package speechless.community.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import speechless.community.domain.repository.CommunityRepository;
+
+// 조회수 지연 반영 테스트
+@ExtendWith(MockitoExtension.class)
+public class CommunityHitCounterTest {
+
+    @Mock
+    private CommunityRepository communityRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommunityHitCounter hitCounter;
+
+    @BeforeEach
+    public void setHitCounter() {
+        hitCounter = new CommunityHitCounter(communityRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("조회 시 DB를 갱신하지 않고 대기분을 합친 조회수를 반환")
+    public void increaseWithoutUpdate() {
+
+        // when
+        hitCounter.increase(1L, 10L);
+        Long hit = hitCounter.increase(1L, 10L);
+
+        // then
+        Assertions.assertThat(hit).isEqualTo(12L);
+        verify(communityRepository, never()).increaseHit(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반영 시 누적된 조회수를 한 번에 증가")
+    public void flushAccumulatedHits() {
+
+        // given
+        hitCounter.increase(1L, 10L);
+        hitCounter.increase(1L, 10L);
+        hitCounter.increase(2L, 0L);
+
+        // when
+        hitCounter.flush();
+
+        // then
+        verify(communityRepository).increaseHit(1L, 2L);
+        verify(communityRepository).increaseHit(2L, 1L);
+        Assertions.assertThat(hitCounter.getHit(1L, 12L)).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("반영이 끝나 대기분이 없는 항목은 정리")
+    public void pruneFlushedEntries() {
+
+        // given
+        hitCounter.increase(1L, 10L);
+        hitCounter.flush();
+
+        // when
+        hitCounter.flush();
+
+        // then : 정리된 항목은 다시 반영하지 않고 DB 조회수를 그대로 사용
+        verify(communityRepository).increaseHit(1L, 1L);
+        Assertions.assertThat(hitCounter.getHit(1L, 11L)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("DB 반영 직후 대기분 차감 전에 읽어도 조회수를 두 번 세지 않고 줄어들지도 않음")
+    public void readBetweenCommitAndSubtraction() {
+
+        // given
+        hitCounter.increase(1L, 10L);
+        List<Long> duringFlush = new ArrayList<>();
+        doAnswer(invocation -> {
+            // 커밋 직후 : 반영 후 값(11) 또는 반영 전에 읽어둔 값(10)으로 조회
+            duringFlush.add(hitCounter.getHit(1L, 11L));
+            duringFlush.add(hitCounter.getHit(1L, 10L));
+            return null;
+        }).when(transactionManager).commit(any());
+
+        // when
+        hitCounter.flush();
+
+        // then
+        Assertions.assertThat(duringFlush).containsExactly(11L, 11L);
+        Assertions.assertThat(hitCounter.getHit(1L, 10L)).isEqualTo(11L);
+        Assertions.assertThat(hitCounter.getHit(1L, 11L)).isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 대기분을 유지")
+    public void keepPendingOnFailure() {
+
+        // given
+        hitCounter.increase(1L, 10L);
+        doThrow(new IllegalStateException()).when(communityRepository).increaseHit(1L, 1L);
+
+        // when
+        hitCounter.flush();
+
+        // then
+        Assertions.assertThat(hitCounter.getHit(1L, 10L)).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,213 @@
+package speechless.community.application;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import speechless.auth.dto.AuthCredentials;
+import speechless.community.domain.Community;
+import speechless.community.domain.repository.CommunityRepository;
+import speechless.community.domain.repository.ParticipantRepository;
+import speechless.community.dto.request.CreateCommunityRequest;
+import speechless.community.exception.ExceedCapacityException;
+import speechless.community.exception.ParticipantExistException;
+import speechless.member.domain.Member;
+import speechless.member.domain.MemberType;
+import speechless.member.domain.repository.MemberRepository;
+
+// 동시 참여 신청 시 정원 초과 / 중복 참여 테스트 (실제 DB 트랜잭션 사용)
+@SpringBootTest
+public class ParticipantServiceConcurrencyTest {
+
+    private static final int MAX_PARTICIPANTS = 5;
+
+    private static final int THREAD_COUNT = 30;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Member> members = new ArrayList<>();
+
+    private Community community;
+
+    @BeforeEach
+    public void setCommunity() {
+
+        Member writer = createMember("작성자");
+        community = communityRepository.save(Community.builder()
+            .writer(writer)
+            .category("면접")
+            .title("동시 참여 테스트")
+            .content("동시 참여 테스트")
+            .deadline(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+            .sessionStart(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(2)))
+            .maxParticipants(MAX_PARTICIPANTS)
+            .hit(0L)
+            .build());
+    }
+
+    @AfterEach
+    public void clear() {
+        communityRepository.deleteById(community.getId());
+        memberRepository.deleteAll(members);
+        members.clear();
+    }
+
+    @Test
+    @DisplayName("동시에 여러 회원이 참여해도 정원을 넘지 않음")
+    public void noOverbooking() throws InterruptedException {
+
+        // given
+        List<Member> applicants = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            applicants.add(createMember("참여자" + i));
+        }
+
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when
+        runConcurrently(applicants, member -> {
+            try {
+                participantService.createParticipant(new AuthCredentials(member.getId()),
+                    community.getId());
+                admitted.incrementAndGet();
+            } catch (ExceedCapacityException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // then
+        Community result = communityRepository.findById(community.getId()).orElseThrow();
+        Assertions.assertThat(admitted.get()).isEqualTo(MAX_PARTICIPANTS);
+        Assertions.assertThat(rejected.get()).isEqualTo(THREAD_COUNT - MAX_PARTICIPANTS);
+        Assertions.assertThat(result.getCurrentParticipants()).isEqualTo(MAX_PARTICIPANTS);
+        Assertions.assertThat(participantRepository.findAllByCommunity(result)
+            .orElse(new ArrayList<>())).hasSize(MAX_PARTICIPANTS);
+    }
+
+    @Test
+    @DisplayName("같은 회원이 동시에 참여해도 한 번만 참여")
+    public void noDuplicateParticipant() throws InterruptedException {
+
+        // given
+        Member applicant = createMember("중복 참여자");
+        List<Member> applicants = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            applicants.add(applicant);
+        }
+
+        AtomicInteger admitted = new AtomicInteger();
+
+        // when
+        runConcurrently(applicants, member -> {
+            try {
+                participantService.createParticipant(new AuthCredentials(member.getId()),
+                    community.getId());
+                admitted.incrementAndGet();
+            } catch (ParticipantExistException | ExceedCapacityException ignored) {
+            }
+        });
+
+        // then
+        Community result = communityRepository.findById(community.getId()).orElseThrow();
+        Assertions.assertThat(admitted.get()).isEqualTo(1);
+        Assertions.assertThat(result.getCurrentParticipants()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("글 수정 중 참여/조회수가 반영되어도 수정이 덮어쓰지 않음")
+    public void editKeepsCounters() {
+
+        // given
+        Member applicant = createMember("수정 중 참여자");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when : 글을 읽은 뒤 다른 트랜잭션에서 참여/조회수가 반영되고 나서 수정 내용 커밋
+        transactionTemplate.executeWithoutResult(status -> {
+            Community stale = communityRepository.findById(community.getId()).orElseThrow();
+
+            CompletableFuture.runAsync(() -> {
+                participantService.createParticipant(new AuthCredentials(applicant.getId()),
+                    community.getId());
+                new TransactionTemplate(transactionManager).executeWithoutResult(
+                    inner -> communityRepository.increaseHit(community.getId(), 3L));
+            }).join();
+
+            stale.updateCommunity(new CreateCommunityRequest("수정된 제목", "수정된 내용",
+                stale.getSessionStart(), stale.getDeadline(), stale.getCategory(),
+                MAX_PARTICIPANTS));
+        });
+
+        // then
+        Community result = communityRepository.findById(community.getId()).orElseThrow();
+        Assertions.assertThat(result.getTitle()).isEqualTo("수정된 제목");
+        Assertions.assertThat(result.getCurrentParticipants()).isEqualTo(1);
+        Assertions.assertThat(result.getHit()).isEqualTo(3L);
+    }
+
+    private void runConcurrently(List<Member> applicants, Consumer<Member> task)
+        throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(applicants.size());
+
+        for (Member member : applicants) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.accept(member);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    private Member createMember(String name) {
+
+        Member member = memberRepository.save(
+            Member.builder()
+                .name(name)
+                .profile("")
+                .email(name + "@test.com")
+                .memberType(MemberType.kakao)
+                .build());
+        members.add(member);
+        return member;
+    }
+}
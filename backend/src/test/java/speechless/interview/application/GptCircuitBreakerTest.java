@@ -0,0 +1,119 @@
+package speechless.interview.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import speechless.interview.exception.GptBadRequestException;
+import speechless.interview.exception.GptRateLimitException;
+import speechless.interview.exception.GptServerErrorException;
+
+// GPT 장애 시 호출 차단 및 재개 테스트
+public class GptCircuitBreakerTest {
+
+    @Test
+    @DisplayName("실패 비율이 임계치를 넘으면 호출을 차단")
+    public void opensOnFailureRate() {
+
+        // given
+        GptCircuitBreaker breaker = create(Duration.ofSeconds(15), Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, new GptServerErrorException());
+        }
+
+        // then
+        Assertions.assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 자체의 오류는 실패로 집계하지 않음")
+    public void ignoresBadRequest() {
+
+        // given
+        GptCircuitBreaker breaker = create(Duration.ofSeconds(15), Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, new GptBadRequestException());
+        }
+
+        // then
+        Assertions.assertThat(breaker.isCallPermitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 한도 초과(429)는 실패로 집계하지 않음")
+    public void ignoresRateLimit() {
+
+        // given
+        GptCircuitBreaker breaker = create(Duration.ofSeconds(15), Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, new GptRateLimitException(null));
+        }
+
+        // then
+        Assertions.assertThat(breaker.isCallPermitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 응답이 빠른 스트리밍은 전체 시간이 길어도 지연으로 집계하지 않음")
+    public void longStreamIsNotSlow() throws Exception {
+
+        // given
+        GptCircuitBreaker breaker = create(Duration.ofMillis(50), Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            breaker.recordStream(onFirstChunk -> {
+                onFirstChunk.run();
+                Thread.sleep(60);
+            });
+        }
+
+        // then
+        Assertions.assertThat(breaker.isCallPermitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("느린 호출이 이어지면 차단하고, 차단 시간이 지난 뒤 시험 호출이 성공하면 재개")
+    public void opensOnSlowCallsAndCloses() throws Exception {
+
+        // given
+        GptCircuitBreaker breaker = create(Duration.ofMillis(50), Duration.ofMillis(100));
+        for (int i = 0; i < 4; i++) {
+            breaker.record(() -> {
+                Thread.sleep(60);
+                return "느린 응답";
+            });
+        }
+        Assertions.assertThat(breaker.isCallPermitted()).isFalse();
+
+        // when
+        Thread.sleep(150);
+        boolean probe = breaker.isCallPermitted();
+        boolean second = breaker.isCallPermitted();
+        breaker.record(() -> "응답");
+
+        // then
+        Assertions.assertThat(probe).isTrue();
+        Assertions.assertThat(second).isFalse();
+        Assertions.assertThat(breaker.isOpen()).isFalse();
+    }
+
+    private GptCircuitBreaker create(Duration slowCallThreshold, Duration openDuration) {
+        return new GptCircuitBreaker(10, 4, 0.5, slowCallThreshold, openDuration,
+            new SimpleMeterRegistry());
+    }
+
+    private void fail(GptCircuitBreaker breaker, RuntimeException e) {
+
+        Assertions.assertThatThrownBy(() -> breaker.record(() -> {
+            throw e;
+        })).isSameAs(e);
+    }
+}
@@ -0,0 +1,105 @@
+package speechless.interview.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import speechless.interview.config.GptSchedulerProperties;
+
+// GPT 호출 대기열의 공정성, 우선순위, 요청 한도 테스트
+public class GptSchedulerTest {
+
+    private GptScheduler scheduler;
+
+    @AfterEach
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("요청이 많은 회원이 있어도 회원별로 번갈아 꺼냄")
+    public void fairQueueRoundRobin() {
+
+        // given
+        GptFairQueue<String> queue = new GptFairQueue<>();
+        queue.add(1L, "a1");
+        queue.add(1L, "a2");
+        queue.add(1L, "a3");
+        queue.add(2L, "b1");
+        queue.add(3L, "c1");
+
+        // when
+        List<String> order = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            order.add(queue.poll());
+        }
+
+        // then
+        Assertions.assertThat(order).containsExactly("a1", "b1", "c1", "a2", "a3");
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 한도를 다 쓰면 채워질 때까지 대기")
+    public void tokenBucketWaitsForRefill() {
+
+        // given
+        long now = 0;
+        GptTokenBucket bucket = new GptTokenBucket(60, now);
+
+        // when
+        bucket.take(60, now);
+
+        // then
+        Assertions.assertThat(bucket.nanosUntil(1, now))
+            .isCloseTo(TimeUnit.SECONDS.toNanos(1), Offset.offset(1_000L));
+        Assertions.assertThat(bucket.nanosUntil(1, now + TimeUnit.MILLISECONDS.toNanos(1001)))
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 피드백 요청을 질문 생성 요청보다 먼저 실행")
+    public void feedbackBeforeQuestion() throws Exception {
+
+        // given
+        GptSchedulerProperties properties = new GptSchedulerProperties();
+        properties.setMaxConcurrency(1);
+        scheduler = new GptScheduler(properties, new SimpleMeterRegistry());
+        scheduler.init();
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Object> running = scheduler.submit(1L, GptPriority.QUESTION, 10,
+            () -> {
+                release.await();
+                return null;
+            });
+
+        // when
+        CompletableFuture<String> question = scheduler.submit(2L, GptPriority.QUESTION, 10,
+            () -> {
+                order.add("question");
+                return "question";
+            });
+        CompletableFuture<String> feedback = scheduler.submit(3L, GptPriority.FEEDBACK, 10,
+            () -> {
+                order.add("feedback");
+                return "feedback";
+            });
+        release.countDown();
+
+        // then
+        CompletableFuture.allOf(running, question, feedback).get(5, TimeUnit.SECONDS);
+        Assertions.assertThat(order).containsExactly("feedback", "question");
+    }
+}
@@ -0,0 +1,102 @@
+package speechless.interview.application;
+
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import speechless.interview.domain.InterviewPreset;
+import speechless.interview.domain.repository.InterviewPresetRepository;
+
+// GPT 장애 시 기본 질문 선택 테스트
+@ExtendWith(MockitoExtension.class)
+public class InterviewPresetBankTest {
+
+    private static final List<String> COMMONS = List.of("인성1", "인성2", "지원동기1", "경험1");
+
+    @Mock
+    private InterviewPresetRepository presetRepository;
+
+    @InjectMocks
+    private InterviewPresetBank presetBank;
+
+    @BeforeEach
+    public void load() {
+
+        when(presetRepository.findAll()).thenReturn(List.of(
+            preset(null, "인성", "인성1"),
+            preset(null, "인성", "인성2"),
+            preset(null, "지원동기", "지원동기1"),
+            preset(null, "경험", "경험1"),
+            preset("백엔드", "기술", "백엔드1"),
+            preset("AI", "기술", "AI1")));
+        presetBank.load();
+    }
+
+    @Test
+    @DisplayName("직무명 일부에만 포함된 키는 일치하지 않고 공통 질문으로 대체")
+    public void substringDoesNotMatch() {
+
+        // when
+        List<String> maintenance = presetBank.pick("Maintenance Engineer", 4);
+        List<String> retail = presetBank.pick("retail", 4);
+
+        // then
+        Assertions.assertThat(maintenance).containsExactlyInAnyOrderElementsOf(COMMONS);
+        Assertions.assertThat(retail).containsExactlyInAnyOrderElementsOf(COMMONS);
+    }
+
+    @Test
+    @DisplayName("직무명의 단어가 정확히 같으면 해당 직무 질문을 먼저 반환")
+    public void tokenMatches() {
+
+        // when
+        List<String> backend = presetBank.pick("백엔드 개발자", 2);
+        List<String> ai = presetBank.pick("AI/데이터 엔지니어", 2);
+
+        // then
+        Assertions.assertThat(backend.get(0)).isEqualTo("백엔드1");
+        Assertions.assertThat(ai.get(0)).isEqualTo("AI1");
+    }
+
+    @Test
+    @DisplayName("직무가 없거나 일치하는 직무가 없으면 공통 질문만 반환")
+    public void fallsBackToCommon() {
+
+        // when
+        List<String> none = presetBank.pick(null, 10);
+        List<String> unknown = presetBank.pick("디자이너", 10);
+
+        // then
+        Assertions.assertThat(none).containsExactlyInAnyOrderElementsOf(COMMONS);
+        Assertions.assertThat(unknown).containsExactlyInAnyOrderElementsOf(COMMONS);
+    }
+
+    @Test
+    @DisplayName("공통 질문은 주제가 겹치지 않도록 번갈아 선택")
+    public void spreadsTopics() {
+
+        // when
+        List<String> picked = presetBank.pick(null, 3);
+
+        // then : 인성/지원동기/경험 주제에서 하나씩
+        Assertions.assertThat(picked)
+            .hasSize(3)
+            .contains("지원동기1", "경험1")
+            .containsAnyOf("인성1", "인성2");
+    }
+
+    private InterviewPreset preset(String position, String topic, String question) {
+        return InterviewPreset.builder()
+            .position(position)
+            .topic(topic)
+            .question(question)
+            .build();
+    }
+}
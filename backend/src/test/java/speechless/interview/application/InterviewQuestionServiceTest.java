@@ -0,0 +1,341 @@
+package speechless.interview.application;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import speechless.interview.application.GptScheduler.GptCall;
+import speechless.interview.application.dto.Choice;
+import speechless.interview.application.dto.GptRequest;
+import speechless.interview.application.dto.GptResponse;
+import speechless.interview.application.dto.Message;
+import speechless.interview.application.dto.Message.UserType;
+import speechless.interview.application.dto.request.QuestionRequest;
+import speechless.interview.domain.InterviewInfo;
+import speechless.interview.domain.InterviewQuestion;
+import speechless.interview.domain.repository.InterviewInfoRepository;
+import speechless.interview.domain.repository.InterviewQuestionBatchRepository;
+import speechless.interview.domain.repository.InterviewQuestionRepository;
+import speechless.interview.utils.GptUtil;
+import speechless.session.openVidu.utils.SignalUtil;
+import speechless.statement.domain.Statement;
+import speechless.statement.domain.StatementQuestion;
+import speechless.statement.domain.repository.StatementRepository;
+
+// GPT 대기 중 트랜잭션(커넥션) 점유 테스트
+@ExtendWith(MockitoExtension.class)
+public class InterviewQuestionServiceTest {
+
+    private static final long GPT_LATENCY_MILLIS = 500;
+
+    @Mock
+    private GptUtil gptUtil;
+
+    @Mock
+    private GptScheduler gptScheduler;
+
+    @Mock
+    private SignalUtil signalUtil;
+
+    @Mock
+    private InterviewInfoRepository interviewInfoRepository;
+
+    @Mock
+    private StatementRepository statementRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private InterviewQuestionCache questionCache;
+
+    @Spy
+    private GptCircuitBreaker circuitBreaker = new GptCircuitBreaker(20, 5, 0.5,
+        Duration.ofSeconds(15), Duration.ofSeconds(30), new SimpleMeterRegistry());
+
+    @Mock
+    private InterviewPresetBank presetBank;
+
+    @Mock
+    private DeferredFeedbackBuffer feedbackBuffer;
+
+    @Mock
+    private InterviewQuestionBatchRepository questionBatchRepository;
+
+    @Mock
+    private InterviewQuestionRepository questionRepository;
+
+    @InjectMocks
+    private InterviewQuestionService service;
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean(false);
+
+    private final AtomicBoolean gptCalledInTransaction = new AtomicBoolean(false);
+
+    private final AtomicLong transactionStartedAt = new AtomicLong();
+
+    private final List<Long> holdTimes = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setTransactionManager() {
+
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            transactionStartedAt.set(System.nanoTime());
+            return new SimpleTransactionStatus();
+        });
+
+        lenient().doAnswer(invocation -> {
+            holdTimes.add(System.nanoTime() - transactionStartedAt.get());
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+    }
+
+    @BeforeEach
+    public void setGptScheduler() {
+
+        // 대기열 없이 호출한 스레드에서 바로 실행 (응답 지연을 직접 제어하는 테스트는 덮어씀)
+        lenient().when(gptScheduler.submit(anyLong(), any(GptPriority.class), anyInt(), any()))
+            .thenAnswer(invocation -> {
+                GptCall<?> call = invocation.getArgument(3);
+                return CompletableFuture.completedFuture(call.call());
+            });
+    }
+
+    @Test
+    @DisplayName("질문 생성 시 GPT 호출 동안 트랜잭션을 점유하지 않음")
+    public void createQuestionReleasesTransaction() throws Exception {
+
+        // given
+        Statement statement = Statement.builder()
+            .company("회사")
+            .position("직무")
+            .career(0)
+            .build();
+        statement.addQuestion(StatementQuestion.builder().question("문항").answer("답변").build());
+
+        when(statementRepository.findByMemberIdAndId(1L, 1L))
+            .thenReturn(Optional.of(statement));
+
+        doAnswer(invocation -> {
+            gptCalledInTransaction.set(inTransaction.get());
+            Thread.sleep(GPT_LATENCY_MILLIS);
+
+            Consumer<String> lineConsumer = invocation.getArgument(1);
+            lineConsumer.accept("질문1");
+            return null;
+        }).when(gptUtil).stream(any(GptRequest.class), any());
+
+        // when
+        service.asyncCreateQuestion(1L, new QuestionRequest(1L, 1L, "session", 1));
+
+        // then
+        assertHoldTimeIndependentOfGpt();
+    }
+
+    @Test
+    @DisplayName("피드백 생성 시 GPT 호출 동안 트랜잭션을 점유하지 않음")
+    public void createFeedbackReleasesTransaction() throws Exception {
+
+        // given
+        when(interviewInfoRepository.findMemberIdById(1L)).thenReturn(Optional.of(7L));
+        when(interviewInfoRepository.findByInterviewId(1L))
+            .thenReturn(InterviewInfo.builder().id(1L).build());
+
+        when(gptUtil.call(any(GptRequest.class))).thenAnswer(invocation -> {
+            gptCalledInTransaction.set(inTransaction.get());
+            Thread.sleep(GPT_LATENCY_MILLIS);
+
+            return new GptResponse(List.of(
+                new Choice(0, new Message(UserType.ASSISTANT, "피드백"), "stop")), null);
+        });
+
+        // when
+        service.asyncCreateFeedback(1L, "session", "질문", "답변");
+
+        // then
+        assertHoldTimeIndependentOfGpt();
+    }
+
+    @Test
+    @DisplayName("피드백 없이 저장된 답변은 GPT 한 번 호출과 한 번의 배치 저장으로 채움")
+    public void flushFeedbackInOneCall() throws Exception {
+
+        // given
+        when(feedbackBuffer.markFlushed(1L)).thenReturn(Optional.of("session"));
+        when(interviewInfoRepository.findMemberIdById(1L)).thenReturn(Optional.of(7L));
+        when(feedbackBuffer.claim(anyList())).thenAnswer(returnsFirstArg());
+        when(questionRepository.findAllByInterviewInfoIdAndFeedbackIsNullOrderByIdAsc(1L))
+            .thenReturn(List.of(
+                InterviewQuestion.builder().id(11L).question("질문1").answer("답변1").build(),
+                InterviewQuestion.builder().id(12L).question("질문2").answer("답변2").build()));
+
+        when(gptUtil.call(any(GptRequest.class))).thenAnswer(invocation -> {
+            gptCalledInTransaction.set(inTransaction.get());
+            Thread.sleep(GPT_LATENCY_MILLIS);
+
+            return new GptResponse(List.of(new Choice(0, new Message(UserType.ASSISTANT,
+                "[{\"index\":2,\"feedback\":\"피드백2\"},{\"index\":1,\"feedback\":\"피드백1\"}]"),
+                "stop")), null);
+        });
+
+        // when
+        service.flushFeedback(1L);
+
+        // then
+        ArgumentCaptor<List<InterviewQuestion>> saved = ArgumentCaptor.forClass(List.class);
+        verify(gptUtil, times(1)).call(any(GptRequest.class));
+        verify(questionBatchRepository, times(1)).updateFeedbacks(saved.capture());
+        Assertions.assertThat(saved.getValue())
+            .extracting(InterviewQuestion::getId, InterviewQuestion::getFeedback)
+            .containsExactly(Assertions.tuple(11L, "피드백1"), Assertions.tuple(12L, "피드백2"));
+        assertHoldTimeIndependentOfGpt();
+    }
+
+    @Test
+    @DisplayName("면접이 끝난 뒤 도착한 답변은 먼저 저장하고 바로 피드백을 채움")
+    public void deferFeedbackAfterFlush() throws Exception {
+
+        // given
+        InterviewInfo interview = InterviewInfo.builder().build();
+        when(interviewInfoRepository.findByInterviewId(1L)).thenReturn(interview);
+        when(feedbackBuffer.isFlushed(1L)).thenReturn(true);
+        when(interviewInfoRepository.findMemberIdById(1L)).thenReturn(Optional.of(7L));
+        when(feedbackBuffer.claim(anyList())).thenAnswer(returnsFirstArg());
+
+        when(gptUtil.call(any(GptRequest.class))).thenAnswer(invocation -> {
+            gptCalledInTransaction.set(inTransaction.get());
+            return new GptResponse(List.of(new Choice(0,
+                new Message(UserType.ASSISTANT, "피드백"), "stop")), null);
+        });
+
+        // when
+        service.deferFeedback(1L, "session", "질문", "답변");
+
+        // then : 답변은 피드백 없이 저장된 뒤 배치 UPDATE 로 채워짐
+        ArgumentCaptor<List<InterviewQuestion>> saved = ArgumentCaptor.forClass(List.class);
+        verify(questionBatchRepository, times(1)).updateFeedbacks(saved.capture());
+        Assertions.assertThat(interview.getQuestions())
+            .extracting(InterviewQuestion::getAnswer, InterviewQuestion::getFeedback)
+            .containsExactly(Assertions.tuple("답변", null));
+        Assertions.assertThat(saved.getValue())
+            .extracting(InterviewQuestion::getFeedback)
+            .containsExactly("피드백");
+        Assertions.assertThat(gptCalledInTransaction.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 쪽에서 피드백을 생성 중인 답변은 GPT 를 다시 호출하지 않음")
+    public void skipClaimedQuestions() throws Exception {
+
+        // given : 늦게 도착한 답변이 이미 피드백을 생성 중
+        when(feedbackBuffer.markFlushed(1L)).thenReturn(Optional.of("session"));
+        when(interviewInfoRepository.findMemberIdById(1L)).thenReturn(Optional.of(7L));
+        when(questionRepository.findAllByInterviewInfoIdAndFeedbackIsNullOrderByIdAsc(1L))
+            .thenReturn(List.of(
+                InterviewQuestion.builder().id(11L).question("질문1").answer("답변1").build()));
+        when(feedbackBuffer.claim(anyList())).thenReturn(List.of());
+
+        // when
+        service.flushFeedback(1L);
+
+        // then
+        verify(gptUtil, never()).call(any(GptRequest.class));
+        verify(signalUtil, never()).sendSignalAsync(any());
+    }
+
+    @Test
+    @DisplayName("다른 쪽에서 먼저 채운 답변은 피드백 시그널을 보내지 않음")
+    public void skipSignalForAlreadyFilled() throws Exception {
+
+        // given : 배치 UPDATE 에서 한 건도 채워지지 않음 (feedback IS NULL 조건 불일치)
+        when(feedbackBuffer.markFlushed(1L)).thenReturn(Optional.of("session"));
+        when(interviewInfoRepository.findMemberIdById(1L)).thenReturn(Optional.of(7L));
+        when(questionRepository.findAllByInterviewInfoIdAndFeedbackIsNullOrderByIdAsc(1L))
+            .thenReturn(List.of(
+                InterviewQuestion.builder().id(11L).question("질문1").answer("답변1").build()));
+        when(feedbackBuffer.claim(anyList())).thenAnswer(returnsFirstArg());
+        when(questionBatchRepository.updateFeedbacks(anyList())).thenReturn(List.of());
+        when(gptUtil.call(any(GptRequest.class))).thenReturn(new GptResponse(List.of(
+            new Choice(0, new Message(UserType.ASSISTANT, "피드백"), "stop")), null));
+
+        // when
+        service.flushFeedback(1L);
+
+        // then
+        verify(questionBatchRepository, times(1)).updateFeedbacks(anyList());
+        verify(signalUtil, never()).sendSignalAsync(any());
+        verify(feedbackBuffer, times(1)).release(anyList());
+    }
+
+    @Test
+    @DisplayName("피드백은 면접의 회원 단위로 대기열에 넣고 GPT 응답을 기다리지 않고 반환")
+    public void createFeedbackDoesNotWaitForGpt() throws Exception {
+
+        // given : GPT 응답이 아직 오지 않은 상태
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        doReturn(pending).when(gptScheduler)
+            .submit(anyLong(), any(GptPriority.class), anyInt(), any());
+        when(interviewInfoRepository.findMemberIdById(1L)).thenReturn(Optional.of(7L));
+        InterviewInfo interview = InterviewInfo.builder().id(1L).build();
+        when(interviewInfoRepository.findByInterviewId(1L)).thenReturn(interview);
+
+        // when
+        CompletableFuture<Void> result = service.asyncCreateFeedback(1L, "session", "질문",
+            "답변");
+
+        // then : 반환 시점에는 저장 전, 응답이 오면 이어서 저장
+        verify(gptScheduler).submit(eq(7L), eq(GptPriority.FEEDBACK), anyInt(), any());
+        Assertions.assertThat(result).isNotDone();
+        Assertions.assertThat(interview.getQuestions()).isEmpty();
+
+        pending.complete(new GptResponse(List.of(
+            new Choice(0, new Message(UserType.ASSISTANT, "피드백"), "stop")), null));
+
+        Assertions.assertThat(result).isCompleted();
+        Assertions.assertThat(interview.getQuestions())
+            .extracting(InterviewQuestion::getFeedback)
+            .containsExactly("피드백");
+    }
+
+    private void assertHoldTimeIndependentOfGpt() {
+
+        Assertions.assertThat(gptCalledInTransaction.get()).isFalse();
+        Assertions.assertThat(holdTimes).hasSize(1);
+        Assertions.assertThat(holdTimes.get(0))
+            .isLessThan(TimeUnit.MILLISECONDS.toNanos(GPT_LATENCY_MILLIS));
+    }
+}
@@ -0,0 +1,86 @@
+package speechless.interview.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import speechless.interview.application.dto.request.QuestionRequest;
+
+// 중복 질문 생성 요청 합치기 테스트
+@ExtendWith(MockitoExtension.class)
+public class InterviewQuestionSingleFlightTest {
+
+    @Mock
+    private InterviewQuestionService questionService;
+
+    private InterviewQuestionSingleFlight singleFlight;
+
+    private final QuestionRequest request = new QuestionRequest(1L, 1L, "session", 3);
+
+    @BeforeEach
+    public void setUp() {
+        singleFlight = new InterviewQuestionSingleFlight(questionService, Duration.ofSeconds(30),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 요청은 GPT 호출 없이 같은 결과를 기다림")
+    public void joinsInFlightRequest() throws Exception {
+
+        // given
+        CompletableFuture<Void> running = new CompletableFuture<>();
+        when(questionService.asyncCreateQuestion(eq(1L), any())).thenReturn(running);
+
+        // when
+        CompletableFuture<Void> first = singleFlight.createQuestion(1L, request, null);
+        CompletableFuture<Void> second = singleFlight.createQuestion(1L, request, null);
+
+        // then
+        Assertions.assertThat(second).isSameAs(first);
+        verify(questionService, times(1)).asyncCreateQuestion(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("완료된 요청 뒤의 같은 요청은 새로 생성")
+    public void createsAgainAfterCompletion() throws Exception {
+
+        // given
+        when(questionService.asyncCreateQuestion(eq(1L), any()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        singleFlight.createQuestion(1L, request, null);
+        singleFlight.createQuestion(1L, request, null);
+
+        // then
+        verify(questionService, times(2)).asyncCreateQuestion(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키는 완료 후에도 일정 시간 동안 다시 처리하지 않음")
+    public void honorsIdempotencyKey() throws Exception {
+
+        // given
+        when(questionService.asyncCreateQuestion(eq(1L), any()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        singleFlight.createQuestion(1L, request, "key");
+        singleFlight.createQuestion(1L, request, "key");
+
+        // then
+        verify(questionService, times(1)).asyncCreateQuestion(eq(1L), any());
+    }
+}
@@ -0,0 +1,83 @@
+package speechless.session.recording.application;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openvidu.java.client.OpenVidu;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import speechless.interview.application.InterviewQuestionService;
+import speechless.session.openVidu.dto.request.RecordRequest;
+import speechless.session.recording.config.RecordingPipelineProperties;
+import speechless.session.recording.exception.RecordingPipelineBusyException;
+import speechless.session.speechToText.utils.SttUtil;
+import speechless.session.storage.application.StorageService;
+
+// 녹음 처리 대기열 포화 시 거절 테스트
+@ExtendWith(MockitoExtension.class)
+public class RecordingPipelineTest {
+
+    @Mock
+    private InterviewQuestionService interviewQuestionService;
+
+    @Mock
+    private SttUtil sttUtil;
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private OpenVidu openVidu;
+
+    private RecordingPipeline pipeline;
+
+    @BeforeEach
+    public void setPipeline() {
+
+        pipeline = new RecordingPipeline(new RecordingPipelineProperties(),
+            interviewQuestionService, sttUtil, storageService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pipeline, "OPENVIDU_URL", "http://localhost:4443/");
+        ReflectionTestUtils.setField(pipeline, "OPENVIDU_SECRET", "secret");
+        pipeline.init();
+        ReflectionTestUtils.setField(pipeline, "openVidu", openVidu);
+    }
+
+    @AfterEach
+    public void destroy() {
+        pipeline.destroy();
+    }
+
+    @Test
+    @DisplayName("압축 해제 대기열이 가득 차 거절되어도 같은 녹음으로 다시 요청할 수 있도록 녹음을 지우지 않음")
+    public void keepRecordingOnRejection() throws Exception {
+
+        // given : 압축 해제 단계만 요청을 받지 않는 상태
+        Map<?, ThreadPoolTaskExecutor> executors =
+            (Map<?, ThreadPoolTaskExecutor>) ReflectionTestUtils.getField(pipeline, "executors");
+        executors.forEach((stage, executor) -> {
+            if (((Enum<?>) stage).name().equals("UNZIP")) {
+                executor.shutdown();
+            }
+        });
+
+        // when
+        Assertions.assertThatThrownBy(() -> pipeline.submit("recording",
+                new RecordRequest(1L, "질문", null)))
+            .isInstanceOf(RecordingPipelineBusyException.class);
+
+        // then
+        verify(openVidu, after(300).never()).deleteRecording(anyString());
+    }
+}
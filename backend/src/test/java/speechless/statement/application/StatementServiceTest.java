@@ -2,6 +2,8 @@ package speechless.statement.application;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -82,6 +84,34 @@ public class StatementServiceTest {
 
     }
 
+    @Test
+    @DisplayName("자기소개서 커서 목록 테스트")
+    public void getStatementsWithCursor() {
+
+        List<Statement> statementList = new ArrayList<>();
+        for (long id = 9; id >= 7; id--) {
+            statementList.add(Statement.builder().id(id).title("제목" + id).build());
+        }
+
+        when(memberRepository.findById(any(Long.class)))
+            .thenReturn(Optional.of(Member.builder().id(1L).build()));
+
+        //given : pageSize + 1 개 조회
+        when(repository
+            .findAllByMemberAndIdLessThanOrderByIdDesc(any(Member.class), eq(10L),
+                eq(PageRequest.ofSize(3)))
+        ).thenReturn(statementList);
+
+        // when
+        StatementListResponse response = service.getStatements(2, 10L, false, authCredentials);
+
+        // then
+        Assertions.assertThat(response.statements().size()).isSameAs(2);
+        Assertions.assertThat(response.nextCursor()).isEqualTo(8L);
+        Assertions.assertThat(response.totalCount()).isNull();
+        verify(repository, never()).countByMember(any(Member.class));
+    }
+
     @Test
     @DisplayName("자기소개서 목록 테스트")
     public void getStatement() {
@@ -31,6 +31,7 @@ CREATE TABLE `announcement_info` (
   `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
   KEY `community_id` (`community_id`),
+  KEY `idx_announcement_info_announcement_id` (`announcement_id`),
   CONSTRAINT `announcement_info_ibfk_1` FOREIGN KEY (`community_id`) REFERENCES `community` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=4 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -54,10 +55,15 @@ CREATE TABLE `community` (
   `is_deleted` bit(1) DEFAULT b'0',
   `hit` bigint DEFAULT '0',
   `max_participants` int DEFAULT '5',
+  `current_participants` int NOT NULL DEFAULT '0',
   `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
   KEY `writer_id` (`writer_id`),
+  KEY `idx_community_deleted_deadline` (`is_deleted`,`deadline`),
+  KEY `idx_community_session_start` (`session_start`),
+  FULLTEXT KEY `ft_community_title` (`title`) /*!50100 WITH PARSER `ngram` */ ,
+  FULLTEXT KEY `ft_community_content` (`content`) /*!50100 WITH PARSER `ngram` */ ,
   CONSTRAINT `community_ibfk_1` FOREIGN KEY (`writer_id`) REFERENCES `member` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=40 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -83,7 +89,8 @@ CREATE TABLE `interview_info` (
   `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
-  KEY `member_id` (`member_id`),
+  KEY `idx_interview_info_member_completion_start` (`member_id`,`is_completion`,`start_time`),
+  KEY `idx_interview_info_member_completion` (`member_id`,`is_completion`),
   CONSTRAINT `interview_info_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=11 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
@@ -107,6 +114,23 @@ CREATE TABLE `interview_question` (
 ) ENGINE=InnoDB AUTO_INCREMENT=16 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
+--
+-- Table structure for table `interview_preset`
+--
+
+DROP TABLE IF EXISTS `interview_preset`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `interview_preset` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `position` varchar(50) DEFAULT NULL,
+  `topic` varchar(50) NOT NULL,
+  `question` varchar(200) NOT NULL,
+  PRIMARY KEY (`id`),
+  KEY `idx_interview_preset_position` (`position`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `member`
 --
@@ -122,7 +146,8 @@ CREATE TABLE `member` (
   `member_type` enum('kakao','naver','google') DEFAULT NULL,
   `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
-  PRIMARY KEY (`id`)
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_member_email_type` (`email`,`member_type`)
 ) ENGINE=InnoDB AUTO_INCREMENT=30 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
 
@@ -140,8 +165,8 @@ CREATE TABLE `participant` (
   `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
-  KEY `member_id` (`member_id`),
-  KEY `community_id` (`community_id`),
+  UNIQUE KEY `uk_participant_community_member` (`community_id`,`member_id`),
+  KEY `idx_participant_member_community` (`member_id`,`community_id`),
   CONSTRAINT `participant_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`),
   CONSTRAINT `participant_ibfk_2` FOREIGN KEY (`community_id`) REFERENCES `community` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=52 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -157,11 +182,14 @@ DROP TABLE IF EXISTS `refresh_token`;
 CREATE TABLE `refresh_token` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `member_id` int unsigned NOT NULL,
-  `token` varchar(200) DEFAULT NULL,
+  `token_hash` char(64) NOT NULL,
+  `expires_at` timestamp NOT NULL,
   `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   `modified_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_refresh_token_hash` (`token_hash`),
   KEY `member_id` (`member_id`),
+  KEY `idx_refresh_token_expires_at` (`expires_at`),
   CONSTRAINT `refresh_token_ibfk_1` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=49 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 /*!40101 SET character_set_client = @saved_cs_client */;
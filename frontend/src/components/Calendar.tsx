@@ -16,33 +16,22 @@ export const Calendar: React.FC = () => {
 		const year = new Date().getFullYear();
 		const month = new Date().getMonth() + 1;
 
-		const interviewResponse = await localAxios.get('interview/monthly', {
+		const response = await localAxios.get('calendar/monthly', {
 			params: { year, month },
 		});
-		const speechResponse = await localAxios.get('participant/current');
 
-		const interviewResult = interviewResponse.data.map((x: { id: number; topic: string; startTime: string }) => {
-			return {
-				title: x.topic,
-				date: x.startTime.slice(0, 10),
-				url: '/interview/report/' + x.id,
-				backgroundColor: 'lightseagreen',
-				borderColor: 'lightseagreen',
-			};
-		});
-
-		const speechResult = speechResponse.data.map((x: { id: number; title: string; sessionStart: string }) => {
+		const result = response.data.map((x: { type: string; id: number; title: string; startTime: string }) => {
+			const isInterview = x.type === 'INTERVIEW';
+			const color = isInterview ? 'lightseagreen' : 'lightcoral';
 			return {
 				title: x.title,
-				date: x.sessionStart.slice(0, 10),
-				url: '/speech/' + x.id,
-				backgroundColor: 'lightcoral',
-				borderColor: 'lightcoral',
+				date: x.startTime.slice(0, 10),
+				url: (isInterview ? '/interview/report/' : '/speech/') + x.id,
+				backgroundColor: color,
+				borderColor: color,
 			};
 		});
 
-		const result = interviewResult.concat(speechResult);
-
 		setEvents(result);
 	};
 
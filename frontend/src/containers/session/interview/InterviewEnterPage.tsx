@@ -42,7 +42,7 @@ export const InterviewEnterPage = () => {
 
 	useEffect(() => {
 		localAxios
-			.get('/statements', { params: { pageNum: 1, pageSize: 10 } })
+			.get('/statements', { params: { pageSize: 10 } })
 			.then((res) => {
 				setStatements(res.data.statements);
 			})
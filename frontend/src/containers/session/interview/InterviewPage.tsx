@@ -17,10 +17,22 @@ interface EmotionData {
 }
 
 interface AnswerStopResponse {
+	jobId: string;
+	status: 'QUEUED' | 'UNZIPPING' | 'UPLOADING' | 'TRANSCRIBING' | 'DONE' | 'FAILED';
 	text: string;
 	confidence: number;
+	message: string | null;
 }
 
+const RECORDING_JOB_POLL_INTERVAL = 500;
+
+// 작업 상태 조회 최대 횟수 (500ms * 240 = 2분), 넘으면 실패로 처리
+const RECORDING_JOB_MAX_ATTEMPTS = 240;
+
+// 녹음 처리 대기열이 가득 차면(429) 서버 Retry-After(5초) 만큼 기다린 뒤 같은 녹음으로 다시 요청
+const RECORDING_STOP_MAX_ATTEMPTS = 3;
+const RECORDING_STOP_RETRY_DELAY = 5000;
+
 interface SignalData {
 	feedback?: string;
 }
@@ -559,15 +571,65 @@ export const InterviewPage = () => {
 	};
 
 	const handleRealAnswerStop = async (): Promise<void> => {
-		const response = await localAxios.post(`openvidu/recording/stop/${interviewSessionStore.recordingId}`, {
-			interviewId: interviewSessionStore.interviewId,
-			question: questionsRef.current[questionCursor.current]?.question,
-		});
+		const jobId = await stopRecording();
+		if (!jobId) {
+			alert('요청이 많아 답변을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.');
+			updateQuestionData('', 0);
+			return;
+		}
 
-		const data: AnswerStopResponse = response.data;
-		updateQuestionData(data.text, Math.floor(data.confidence * 100));
+		const data = await waitRecordingJob(jobId);
+		if (data.status === 'FAILED') {
+			alert(data.message ?? '답변 처리에 실패했습니다.');
+		}
+		updateQuestionData(data.text ?? '', Math.floor((data.confidence ?? 0) * 100));
 	};
 
+	// 녹음을 멈추고 후처리 작업 ID 를 받음 (서버는 이미 멈춘 녹음도 다시 제출하므로 재시도 가능)
+	const stopRecording = async (): Promise<string | undefined> => {
+		for (let attempt = 0; attempt < RECORDING_STOP_MAX_ATTEMPTS; attempt++) {
+			if (attempt > 0) {
+				await new Promise(resolve => setTimeout(resolve, RECORDING_STOP_RETRY_DELAY));
+			}
+
+			const response = await localAxios.post(`openvidu/recording/stop/${interviewSessionStore.recordingId}`, {
+				interviewId: interviewSessionStore.interviewId,
+				question: questionsRef.current[questionCursor.current]?.question,
+			});
+			if (response?.data?.jobId) {
+				return response.data.jobId;
+			}
+		}
+
+		return undefined;
+	};
+
+	// 녹음 후처리(STT)가 끝날 때까지 작업 상태 조회
+	// 작업이 사라졌거나(만료) 제한 횟수 안에 끝나지 않으면 실패로 처리
+	const waitRecordingJob = async (jobId: string): Promise<AnswerStopResponse> => {
+		for (let attempt = 0; attempt < RECORDING_JOB_MAX_ATTEMPTS; attempt++) {
+			const response = await localAxios.get(`openvidu/recording/jobs/${jobId}`);
+			const data: AnswerStopResponse | undefined = response?.data;
+			if (!data) {
+				return recordingJobFailure(jobId, '답변 처리 상태를 확인할 수 없습니다.');
+			}
+			if (data.status === 'DONE' || data.status === 'FAILED') {
+				return data;
+			}
+			await new Promise(resolve => setTimeout(resolve, RECORDING_JOB_POLL_INTERVAL));
+		}
+
+		return recordingJobFailure(jobId, '답변 처리 시간이 초과되었습니다.');
+	};
+
+	const recordingJobFailure = (jobId: string, message: string): AnswerStopResponse => ({
+		jobId,
+		status: 'FAILED',
+		text: '',
+		confidence: 0,
+		message,
+	});
+
 	const handleMockAnswerStop = (): void => {
 		questionsRef.current[feedbackCursor.current].feedback = MOCK_FEEDBACK;
 		feedbackCursor.current += 1;
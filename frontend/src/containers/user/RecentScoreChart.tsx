@@ -28,7 +28,7 @@ export const RecentScoreChart = () => {
 	});
 
 	useEffect(() => {
-		localAxios.get('interview', { params: { pageSize: 10, pageNum: 1 } }).then((res) => {
+		localAxios.get('interview', { params: { pageSize: 10 } }).then((res) => {
 			const infos = res.data.interviewInfos;
 			const faceYlist = infos.map((info: { faceScore: number }) => info.faceScore).reverse();
 			const pronunciationYlist = infos
@@ -24,7 +24,7 @@ interface AuthState {
 	profileImage: string | undefined;
 
 	setAuth: (loginResponse: LoginResponse) => void;
-	setAccessToken: (accessToken: string) => void;
+	setAccessToken: (accessToken: string, refreshToken?: string) => void;
 	clearAuth: () => void;
 }
 
@@ -52,8 +52,9 @@ const useAuthStore = create<AuthState>()(
 
 				set({ tokenExpireAt: new Date(Date.now() + import.meta.env.VITE_JWT_EXPIRE_TIME) });
 			},
-			setAccessToken: (accessToken: string) => {
-				set({ accessToken });
+			setAccessToken: (accessToken: string, refreshToken?: string) => {
+				// 리프레시 토큰은 갱신할 때마다 교체됨
+				set(refreshToken ? { accessToken, refreshToken } : { accessToken });
 				set({ tokenExpireAt: new Date(Date.now() + import.meta.env.VITE_JWT_EXPIRE_TIME) });
 			},
 			clearAuth: () => {
@@ -7,6 +7,30 @@ import { useNavigate } from 'react-router-dom';
 // Token 인증이 필요한 요청에 대해서는 파라미터를 주지 않아도 자동으로 헤더에 토큰을 넣어주고, Interceptor를 통한 재인증을 시도함
 // 로그인 등 일부 Token 인증이 필요없는 요청에 대해서만 파라미터로 false를 명시해주면 된다.
 
+// 동시에 여러 요청이 401을 받아도 재발급은 한 번만 요청하고 결과를 함께 사용
+// (리프레시 토큰은 사용 즉시 교체되므로 같은 토큰으로 두 번 요청하면 로그아웃됨)
+let refreshPromise: Promise<AxiosResponse> | null = null;
+
+const refreshTokens = (refreshToken: string): Promise<AxiosResponse> => {
+	if (!refreshPromise) {
+		const refreshAxios = Axios.create({
+			baseURL: import.meta.env.VITE_API_BASE_URL,
+		});
+
+		refreshPromise = refreshAxios
+			.get('/auth/refresh', {
+				headers: {
+					Refresh: refreshToken,
+				},
+			})
+			.finally(() => {
+				refreshPromise = null;
+			});
+	}
+
+	return refreshPromise;
+};
+
 const useLocalAxios = (isAuth?: boolean): AxiosInstance => {
 	const authenticated: boolean = isAuth !== undefined ? isAuth : true;
 	const authStore = useAuthStore();
@@ -38,24 +62,16 @@ const useLocalAxios = (isAuth?: boolean): AxiosInstance => {
 						return Promise.resolve();
 					}
 
-					const refreshAxios = Axios.create({
-						baseURL: import.meta.env.VITE_API_BASE_URL,
-					});
-
 					let refreshResponse: AxiosResponse | null = null;
 					try {
-						refreshResponse = await refreshAxios.get('/auth/refresh', {
-							headers: {
-								Refresh: authStore.refreshToken,
-							},
-						});
+						refreshResponse = await refreshTokens(authStore.refreshToken);
 
 						if (!refreshResponse?.data.accessToken) {
 							authStore.clearAuth();
 							return Promise.resolve();
 						}
 
-						authStore.setAccessToken(refreshResponse.data.accessToken);
+						authStore.setAccessToken(refreshResponse.data.accessToken, refreshResponse.data.refreshToken);
 					} catch (e) {
 						console.error(e);
 						authStore.clearAuth();